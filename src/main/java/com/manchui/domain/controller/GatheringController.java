@@ -1,5 +1,6 @@
 package com.manchui.domain.controller;
 
+import com.manchui.domain.dto.CursorPagingResponse;
 import com.manchui.domain.dto.CustomUserDetails;
 import com.manchui.domain.dto.gathering.*;
 import com.manchui.domain.service.GatheringService;
@@ -39,7 +40,7 @@ public class GatheringController {
 
         return ResponseEntity.status(201)
                 .body(SuccessResponse.successWithData(
-                        gatheringService.createGathering(userDetails.getUsername(), createRequest)));
+                        gatheringService.createGathering(userDetails, createRequest)));
 
     }
 
@@ -52,7 +53,7 @@ public class GatheringController {
     })
     @GetMapping("/public")
     public ResponseEntity<SuccessResponse<GatheringCursorPagingResponse>> getGatherings(@AuthenticationPrincipal CustomUserDetails userDetails,
-                                                                                        @RequestParam(required = false) Long cursor, // 커서 파라미터 추가
+                                                                                        @RequestParam(required = false) String cursor, // 커서 파라미터 추가
                                                                                         @RequestParam int size,
                                                                                         @RequestParam(required = false) String query,
                                                                                         @RequestParam(required = false) String location,
@@ -75,7 +76,7 @@ public class GatheringController {
     @PostMapping("/{gatheringId}/attendance")
     public ResponseEntity<SuccessResponse<String>> joinGathering(@AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable Long gatheringId) {
 
-        gatheringService.joinGathering(userDetails.getUsername(), gatheringId);
+        gatheringService.joinGathering(userDetails, gatheringId);
         return ResponseEntity.status(201).body(SuccessResponse.successWithNoData("모임 참여 신청 완료되었습니다."));
     }
 
@@ -88,7 +89,7 @@ public class GatheringController {
     @DeleteMapping("/{gatheringId}/cancel")
     public ResponseEntity<SuccessResponse<String>> joinCancelGathering(@AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable Long gatheringId) {
 
-        gatheringService.joinCancelGathering(userDetails.getUsername(), gatheringId);
+        gatheringService.joinCancelGathering(userDetails, gatheringId);
         return ResponseEntity.status(200).body(SuccessResponse.successWithNoData("모임 참여 신청이 취소되었습니다."));
     }
 
@@ -101,7 +102,7 @@ public class GatheringController {
     @PostMapping("/{gatheringId}/heart")
     public ResponseEntity<SuccessResponse<String>> heartGathering(@AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable Long gatheringId) {
 
-        gatheringService.heartGathering(userDetails.getUsername(), gatheringId);
+        gatheringService.heartGathering(userDetails, gatheringId);
         return ResponseEntity.status(201).body(SuccessResponse.successWithNoData("모임에 좋아요를 눌렀습니다."));
     }
 
@@ -114,7 +115,7 @@ public class GatheringController {
     @DeleteMapping("/{gatheringId}/heart")
     public ResponseEntity<SuccessResponse<String>> heartCancelGathering(@AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable Long gatheringId) {
 
-        gatheringService.heartCancelGathering(userDetails.getUsername(), gatheringId);
+        gatheringService.heartCancelGathering(userDetails, gatheringId);
         return ResponseEntity.ok().body(SuccessResponse.successWithNoData("모임에 누른 좋아요가 취소되었습니다."));
     }
 
@@ -134,6 +135,20 @@ public class GatheringController {
         return ResponseEntity.ok(SuccessResponse.successWithData(gatheringService.getGatheringInfo(userDetails, gatheringId, pageable)));
     }
 
+    @Operation(summary = "모임 상세 후기 목록 커서 조회", description = "모임의 후기 목록을 최신순으로 커서 기반 페이징하여 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요청한 모임의 후기 목록이 반환되었습니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서입니다.")
+    })
+    @GetMapping("/public/{gatheringId}/reviews/cursor")
+    public ResponseEntity<SuccessResponse<CursorPagingResponse>> getGatheringReviewsByCursor(@PathVariable Long gatheringId,
+                                                                                             @RequestParam(required = false) String cursor,
+                                                                                             @RequestParam int size) {
+
+        return ResponseEntity.ok(SuccessResponse.successWithData(gatheringService.getReviewsByCursor(gatheringId, cursor, size)));
+    }
+
     @Operation(summary = "모임 취소", description = "모임을 취소합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "모임이 취소되었습니다.",
@@ -144,7 +159,7 @@ public class GatheringController {
     public ResponseEntity<SuccessResponse<String>> cancelGathering(@AuthenticationPrincipal CustomUserDetails userDetails,
                                                                    @PathVariable Long gatheringId) {
 
-        gatheringService.cancelGathering(userDetails.getUsername(), gatheringId);
+        gatheringService.cancelGathering(userDetails, gatheringId);
         return ResponseEntity.ok(SuccessResponse.successWithNoData("모임이 정상적으로 취소되었습니다."));
     }
 
@@ -167,7 +182,28 @@ public class GatheringController {
                                                                                  @RequestParam(required = false, defaultValue = "false") boolean available) {
 
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
-        return ResponseEntity.ok(SuccessResponse.successWithData(gatheringService.getHeartList(userDetails.getUsername(), pageable, query, location, startDate, endDate, category, sort, available)));
+        return ResponseEntity.ok(SuccessResponse.successWithData(gatheringService.getHeartList(userDetails, pageable, query, location, startDate, endDate, category, sort, available)));
+    }
+
+    @Operation(summary = "찜한 모임 목록 커서 조회", description = "회원이 찜한 모임 목록을 커서 기반 페이징하여 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "회원의 찜한 모임 목록입니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서입니다.")
+    })
+    @GetMapping("/heart/cursor")
+    public ResponseEntity<SuccessResponse<GatheringCursorPagingResponse>> getHeartListByCursor(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                                               @RequestParam(required = false) String cursor,
+                                                                                               @RequestParam int size,
+                                                                                               @RequestParam(required = false) String query,
+                                                                                               @RequestParam(required = false) String location,
+                                                                                               @RequestParam(required = false) String startDate,
+                                                                                               @RequestParam(required = false) String endDate,
+                                                                                               @RequestParam(required = false) String category,
+                                                                                               @RequestParam(required = false) String sort,
+                                                                                               @RequestParam(required = false, defaultValue = "false") boolean available) {
+
+        return ResponseEntity.ok(SuccessResponse.successWithData(gatheringService.getHeartListByCursor(userDetails, cursor, size, query, location, startDate, endDate, category, sort, available)));
     }
 
 
@@ -180,7 +216,7 @@ public class GatheringController {
     @GetMapping("")
     public ResponseEntity<SuccessResponse<ClosedGatheringResponse>> getClosedGathering(@AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        return ResponseEntity.ok(SuccessResponse.successWithData(gatheringService.getClosedGathering(userDetails.getUsername())));
+        return ResponseEntity.ok(SuccessResponse.successWithData(gatheringService.getClosedGathering(userDetails)));
     }
 
     @Operation(summary = "마감된 모임 상세 조회", description = "회원이 생성한 모임 중 마감된 모임의 상세 내용을 반환합니다.")
@@ -193,7 +229,7 @@ public class GatheringController {
     public ResponseEntity<SuccessResponse<ClosedGatheringInfoResponse>> getClosedGatheringInfo(@AuthenticationPrincipal CustomUserDetails userDetails,
                                                                                                @PathVariable Long gatheringId) {
 
-        return ResponseEntity.ok(SuccessResponse.successWithData(gatheringService.getClosedGatheringInfo(userDetails.getUsername(), gatheringId)));
+        return ResponseEntity.ok(SuccessResponse.successWithData(gatheringService.getClosedGatheringInfo(userDetails, gatheringId)));
     }
 
 }
@@ -3,6 +3,7 @@ package com.manchui.domain.controller;
 import com.manchui.domain.dto.CustomUserDetails;
 import com.manchui.domain.dto.review.ReviewCreateRequest;
 import com.manchui.domain.dto.review.ReviewCreateResponse;
+import com.manchui.domain.dto.review.ReviewDetailCursorPagingResponse;
 import com.manchui.domain.dto.review.ReviewDetailPagingResponse;
 import com.manchui.domain.service.ReviewService;
 import com.manchui.global.response.SuccessResponse;
@@ -28,20 +29,20 @@ public class ReviewController {
     public ResponseEntity<SuccessResponse<ReviewCreateResponse>> createReview(@AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable Long gatheringId,
                                                                               @Valid @RequestBody ReviewCreateRequest createRequest) {
 
-        return ResponseEntity.status(201).body(SuccessResponse.successWithData(reviewService.createReview(userDetails.getUsername(), gatheringId, createRequest)));
+        return ResponseEntity.status(201).body(SuccessResponse.successWithData(reviewService.createReview(userDetails, gatheringId, createRequest)));
     }
 
     @PutMapping("/{reviewId}")
     public ResponseEntity<SuccessResponse<ReviewCreateResponse>> updateReview(@AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable Long reviewId,
                                                                               @Valid @RequestBody ReviewCreateRequest updateRequest) {
 
-        return ResponseEntity.ok().body(SuccessResponse.successWithData(reviewService.updateReview(userDetails.getUsername(), reviewId, updateRequest)));
+        return ResponseEntity.ok().body(SuccessResponse.successWithData(reviewService.updateReview(userDetails, reviewId, updateRequest)));
     }
 
     @DeleteMapping("/{reviewId}")
     public ResponseEntity<SuccessResponse<ReviewCreateResponse>> deleteReview(@AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable Long reviewId) {
 
-        reviewService.deleteReview(userDetails.getUsername(), reviewId);
+        reviewService.deleteReview(userDetails, reviewId);
         return ResponseEntity.ok().body(SuccessResponse.successWithNoData("후기가 정상적으로 삭제되었습니다."));
     }
 
@@ -60,4 +61,18 @@ public class ReviewController {
         return ResponseEntity.ok(SuccessResponse.successWithData(reviewService.searchReview(pageable, query, location, startDate, endDate, category, sort, score)));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<SuccessResponse<ReviewDetailCursorPagingResponse>> searchReviewByCursor(@RequestParam(required = false) String cursor,
+                                                                                                  @RequestParam int size,
+                                                                                                  @RequestParam(required = false) String query,
+                                                                                                  @RequestParam(required = false) String location,
+                                                                                                  @RequestParam(required = false) String startDate,
+                                                                                                  @RequestParam(required = false) String endDate,
+                                                                                                  @RequestParam(required = false) String category,
+                                                                                                  @RequestParam(required = false) String sort,
+                                                                                                  @RequestParam(defaultValue = "-1") int score) {
+
+        return ResponseEntity.ok(SuccessResponse.successWithData(reviewService.searchReviewByCursor(cursor, size, query, location, startDate, endDate, category, sort, score)));
+    }
+
 }
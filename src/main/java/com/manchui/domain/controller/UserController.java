@@ -1,5 +1,6 @@
 package com.manchui.domain.controller;
 
+import com.manchui.domain.dto.CursorPagingResponse;
 import com.manchui.domain.dto.CustomUserDetails;
 import com.manchui.domain.dto.User.*;
 import com.manchui.domain.entity.User;
@@ -27,8 +28,7 @@ public class UserController {
     @GetMapping("/api/auths/user")
     public ResponseEntity<SuccessResponse<UserInfoResponse>> userInfo(@AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        String userEmail = userDetails.getUsername();
-        UserInfoResponse userInfo = userService.getUserInfo(userEmail);
+        UserInfoResponse userInfo = userService.getUserInfo(userDetails);
 
         return ResponseEntity.ok().body(SuccessResponse.successWithData(userInfo));
     }
@@ -37,9 +37,8 @@ public class UserController {
     public ResponseEntity<SuccessResponse<UserEditInfoResponse>> editUserInfo(@AuthenticationPrincipal CustomUserDetails userDetails,
                                                                               @ModelAttribute @Valid UserEditInfoRequest userEditInfoRequest) {
 
-        String userEmail = userDetails.getUsername();
-        userService.checkName(userEditInfoRequest.getName(), userEmail);
-        UUID userId = userService.editUserInfo(userEmail, userEditInfoRequest);
+        userService.checkName(userEditInfoRequest.getName(), userDetails);
+        UUID userId = userService.editUserInfo(userDetails, userEditInfoRequest);
         User user = userService.findByUserId(userId);
         UserEditInfoResponse response = UserEditInfoResponse.builder()
                 .id(userId)
@@ -50,12 +49,20 @@ public class UserController {
         return ResponseEntity.ok().body(SuccessResponse.successWithData(response));
     }
 
+    @GetMapping("/api/users/summary")
+    public ResponseEntity<SuccessResponse<UserSummaryResponse>> getMySummary(@AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        UserSummaryResponse response = userService.getUserSummary(userDetails);
+
+        return ResponseEntity.ok(SuccessResponse.successWithData(response));
+    }
+
     @GetMapping("/api/users/gatherings")
     public ResponseEntity<SuccessResponse<UserWrittenGatheringsResponse>> getMyGatheringList(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PageableDefault(size = 10, sort = "gatheringDate", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        UserWrittenGatheringsResponse response = userService.getWrittenGatheringList(userDetails.getUsername(), pageable);
+        UserWrittenGatheringsResponse response = userService.getWrittenGatheringList(userDetails, pageable);
 
         return ResponseEntity.ok(SuccessResponse.successWithData(response));
     }
@@ -65,8 +72,7 @@ public class UserController {
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @PageableDefault(sort = "gatheringDate", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        String userEmail = customUserDetails.getUsername();
-        UserParticipatedGatheringResponse response = userService.getParticipatedGatheringList(userEmail, pageable);
+        UserParticipatedGatheringResponse response = userService.getParticipatedGatheringList(customUserDetails, pageable);
         return ResponseEntity.ok(SuccessResponse.successWithData(response));
     }
 
@@ -75,7 +81,7 @@ public class UserController {
             (@AuthenticationPrincipal CustomUserDetails customUserDetails,
              @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        UserWrittenReviewsResponse response = userService.getWrittenReviews(customUserDetails.getUsername(), pageable);
+        UserWrittenReviewsResponse response = userService.getWrittenReviews(customUserDetails, pageable);
 
         return ResponseEntity.ok(SuccessResponse.successWithData(response));
     }
@@ -85,7 +91,51 @@ public class UserController {
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        UserReviewableGatheringsResponse response = userService.getReviewableGatherings(customUserDetails.getUsername(), pageable);
+        UserReviewableGatheringsResponse response = userService.getReviewableGatherings(customUserDetails, pageable);
+
+        return ResponseEntity.ok(SuccessResponse.successWithData(response));
+    }
+
+    @GetMapping("/api/users/gatherings/cursor")
+    public ResponseEntity<SuccessResponse<CursorPagingResponse>> getMyGatheringListByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPagingResponse response = userService.getWrittenGatheringListByCursor(userDetails, cursor, size);
+
+        return ResponseEntity.ok(SuccessResponse.successWithData(response));
+    }
+
+    @GetMapping("/api/users/gatherings/attendance/cursor")
+    public ResponseEntity<SuccessResponse<CursorPagingResponse>> getMyParticipatedGatheringListByCursor(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPagingResponse response = userService.getParticipatedGatheringListByCursor(customUserDetails, cursor, size);
+
+        return ResponseEntity.ok(SuccessResponse.successWithData(response));
+    }
+
+    @GetMapping("/api/users/reviews/cursor")
+    public ResponseEntity<SuccessResponse<CursorPagingResponse>> getWrittenReviewsByCursor(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPagingResponse response = userService.getWrittenReviewsByCursor(customUserDetails, cursor, size);
+
+        return ResponseEntity.ok(SuccessResponse.successWithData(response));
+    }
+
+    @GetMapping("/api/users/reviewable/list/cursor")
+    public ResponseEntity<SuccessResponse<CursorPagingResponse>> getWritableGatheringsByCursor(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPagingResponse response = userService.getReviewableGatheringsByCursor(customUserDetails, cursor, size);
 
         return ResponseEntity.ok(SuccessResponse.successWithData(response));
     }
@@ -0,0 +1,26 @@
+package com.manchui.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class CursorPagingResponse {
+
+    private List<?> contentList;
+
+    // 다음 페이지 조회 시 그대로 전달하는 불투명 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    // 조회된 개수가 요청 크기보다 적으면 마지막 페이지이므로 다음 커서 없음
+    public static <T> CursorPagingResponse of(List<T> contentList, int size, Function<T, KeysetCursor> cursorOf) {
+
+        if (contentList.isEmpty() || contentList.size() < size) return new CursorPagingResponse(contentList, null);
+
+        return new CursorPagingResponse(contentList, cursorOf.apply(contentList.get(contentList.size() - 1)).encode());
+    }
+
+}
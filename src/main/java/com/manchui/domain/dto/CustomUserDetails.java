@@ -1,18 +1,47 @@
 package com.manchui.domain.dto;
 
 import com.manchui.domain.entity.User;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.UUID;
 
-@RequiredArgsConstructor
 @Slf4j
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    // 사용자 id (id 클레임이 없는 이전 토큰이면 null)
+    @Getter
+    private final UUID userId;
+
+    private final String email;
+
+    @Getter
+    private final String name;
+
+    private final String password;
+
+    // 로그인 시 DB 에서 조회한 사용자
+    public CustomUserDetails(User user) {
+
+        this(user.getId(), user.getEmail(), user.getName(), user.getPassword());
+    }
+
+    // JWT 클레임으로 만든 인증 사용자 (DB 조회 없음)
+    public CustomUserDetails(UUID userId, String email, String name) {
+
+        this(userId, email, name, null);
+    }
+
+    private CustomUserDetails(UUID userId, String email, String name, String password) {
+
+        this.userId = userId;
+        this.email = email;
+        this.name = name;
+        this.password = password;
+    }
 
     public boolean isGuest() {
 
@@ -28,13 +57,13 @@ public class CustomUserDetails implements UserDetails {
     @Override
     public String getPassword() {
 
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
 
-        return user.getEmail();
+        return email;
     }
 
     @Override
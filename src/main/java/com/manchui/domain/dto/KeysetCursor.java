@@ -0,0 +1,79 @@
+package com.manchui.domain.dto;
+
+import com.manchui.global.exception.CustomException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.manchui.global.exception.ErrorCode.ILLEGAL_CURSOR;
+
+/**
+ * 정렬 키 + id 로 구성된 keyset 페이징 커서
+ * 클라이언트에는 "정렬 키|id" 를 base64url 로 인코딩한 불투명 문자열로 전달한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String key;
+
+    private final Long id;
+
+    public static KeysetCursor of(LocalDateTime key, Long id) {
+
+        return new KeysetCursor(key.toString(), id);
+    }
+
+    public static KeysetCursor of(int key, Long id) {
+
+        return new KeysetCursor(String.valueOf(key), id);
+    }
+
+    // 커서가 없으면(첫 페이지) null 반환
+    public static KeysetCursor decode(String cursor) {
+
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            if (index < 0) throw new CustomException(ILLEGAL_CURSOR);
+
+            return new KeysetCursor(decoded.substring(0, index), Long.parseLong(decoded.substring(index + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ILLEGAL_CURSOR);
+        }
+    }
+
+    public String encode() {
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((key + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getDateTimeKey() {
+
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new CustomException(ILLEGAL_CURSOR);
+        }
+    }
+
+    public int getIntKey() {
+
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ILLEGAL_CURSOR);
+        }
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.manchui.domain.dto.User;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserSummaryResponse {
+
+    private long writtenGatheringCount;
+    private long participatedGatheringCount;
+    private long reviewableGatheringCount;
+    private long writtenReviewCount;
+
+}
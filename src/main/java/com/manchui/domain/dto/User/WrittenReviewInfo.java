@@ -1,5 +1,6 @@
 package com.manchui.domain.dto.User;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -22,4 +23,8 @@ public class WrittenReviewInfo {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 커서 페이징용 후기 id (응답에는 포함하지 않음)
+    @JsonIgnore
+    private Long reviewId;
+
 }
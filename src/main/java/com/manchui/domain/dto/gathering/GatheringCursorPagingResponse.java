@@ -1,5 +1,6 @@
 package com.manchui.domain.dto.gathering;
 
+import com.manchui.domain.dto.KeysetCursor;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -9,17 +10,29 @@ import java.util.List;
 @AllArgsConstructor
 public class GatheringCursorPagingResponse {
 
-    private int gatheringCount;
+    // 다음 페이지 조회 시 전체 개수가 캐시에 없으면 null (첫 페이지 응답의 값을 사용)
+    private Integer gatheringCount;
 
     private List<GatheringListResponse> gatheringList;
 
-    private Long nextCursor;
+    // 다음 페이지 조회 시 그대로 전달하는 불투명 커서 (마지막 페이지면 null)
+    private String nextCursor;
 
-    public GatheringCursorPagingResponse(List<GatheringListResponse> gatheringList, int gatheringCount) {
+    public static GatheringCursorPagingResponse of(Long gatheringCount, List<GatheringListResponse> gatheringList, int size, String sort) {
 
-        this.gatheringList = gatheringList;
-        this.gatheringCount = gatheringCount;
-        this.nextCursor = gatheringList.isEmpty() ? null : gatheringList.get(gatheringList.size() - 1).getGatheringId();
+        return new GatheringCursorPagingResponse(
+                gatheringCount == null ? null : gatheringCount.intValue(),
+                gatheringList,
+                buildNextCursor(gatheringList, size, "closeDate".equals(sort)));
+    }
+
+    // 조회된 개수가 요청 크기보다 적으면 마지막 페이지이므로 다음 커서 없음
+    private static String buildNextCursor(List<GatheringListResponse> gatheringList, int size, boolean sortByCloseDate) {
+
+        if (gatheringList.isEmpty() || gatheringList.size() < size) return null;
+
+        GatheringListResponse last = gatheringList.get(gatheringList.size() - 1);
+        return KeysetCursor.of(sortByCloseDate ? last.getDueDate() : last.getCreatedAt(), last.getGatheringId()).encode();
     }
 
 }
@@ -0,0 +1,16 @@
+package com.manchui.domain.dto.gathering;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class GatheringDueDate {
+
+    private Long gatheringId;
+
+    private LocalDateTime dueDate;
+
+}
@@ -0,0 +1,44 @@
+package com.manchui.domain.dto.gathering;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+// 모임 목록 조회 필터 조합 (전체 개수 캐시의 key 로도 사용)
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class GatheringListFilter {
+
+    private String query;
+
+    private String location;
+
+    private String startDate;
+
+    private String endDate;
+
+    private String category;
+
+    private boolean available;
+
+    // 공백만 있는 조건은 조건 없음으로 정규화 (같은 조회가 같은 캐시 key 를 갖도록)
+    public static GatheringListFilter of(String query, String location, String startDate, String endDate, String category, boolean available) {
+
+        return new GatheringListFilter(normalize(query), normalize(location), normalize(startDate), normalize(endDate), normalize(category), available);
+    }
+
+    // 검색어, 지역, 날짜 조건이 없는 넓은 범위의 조회 여부
+    public boolean isBroad() {
+
+        return !StringUtils.hasText(query) && !StringUtils.hasText(location)
+                && !StringUtils.hasText(startDate) && !StringUtils.hasText(endDate);
+    }
+
+    private static String normalize(String value) {
+
+        return StringUtils.hasText(value) ? value.strip() : null;
+    }
+
+}
@@ -1,12 +1,11 @@
 package com.manchui.domain.dto.gathering;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Getter
-@AllArgsConstructor
 public class GatheringListResponse {
 
     private String name;
@@ -31,9 +30,9 @@ public class GatheringListResponse {
 
     private int minUsers;
 
-    private Long currentUsers;
+    private int currentUsers;
 
-    private Long heartCounts;
+    private int heartCounts;
 
     private boolean isOpened;
 
@@ -47,4 +46,34 @@ public class GatheringListResponse {
 
     private boolean isHearted;
 
+    // 좋아요 여부는 조회 후 회원별 좋아요 모임 집합으로 채움
+    public GatheringListResponse(String name, String profileImage, Long gatheringId, String groupName, String category, String location, String gatheringImage,
+                                 LocalDateTime gatheringDate, LocalDateTime dueDate, int maxUsers, int minUsers, int currentUsers, int heartCounts,
+                                 boolean isOpened, boolean isClosed, LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt) {
+
+        this.name = name;
+        this.profileImage = profileImage;
+        this.gatheringId = gatheringId;
+        this.groupName = groupName;
+        this.category = category;
+        this.location = location;
+        this.gatheringImage = gatheringImage;
+        this.gatheringDate = gatheringDate;
+        this.dueDate = dueDate;
+        this.maxUsers = maxUsers;
+        this.minUsers = minUsers;
+        this.currentUsers = currentUsers;
+        this.heartCounts = heartCounts;
+        this.isOpened = isOpened;
+        this.isClosed = isClosed;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.deletedAt = deletedAt;
+    }
+
+    public void updateHearted(Set<Long> heartedGatheringIds) {
+
+        this.isHearted = heartedGatheringIds.contains(gatheringId);
+    }
+
 }
@@ -0,0 +1,38 @@
+package com.manchui.domain.dto.review;
+
+import com.manchui.domain.dto.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ReviewDetailCursorPagingResponse {
+
+    // 첫 페이지에만 포함 (다음 페이지 조회 시 null, 첫 페이지 응답의 값을 사용)
+    private Long reviewCount;
+
+    private ReviewScoreInfo scoreList;
+
+    private List<ReviewDetailInfo> reviewContentList;
+
+    // 다음 페이지 조회 시 그대로 전달하는 불투명 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    public static ReviewDetailCursorPagingResponse of(Long reviewCount, ReviewScoreInfo scoreInfo, List<ReviewDetailInfo> reviewList, int size, String sort) {
+
+        return new ReviewDetailCursorPagingResponse(reviewCount, scoreInfo, reviewList, buildNextCursor(reviewList, size, sort));
+    }
+
+    // 조회된 개수가 요청 크기보다 적으면 마지막 페이지이므로 다음 커서 없음
+    private static String buildNextCursor(List<ReviewDetailInfo> reviewList, int size, String sort) {
+
+        if (reviewList.isEmpty() || reviewList.size() < size) return null;
+
+        ReviewDetailInfo last = reviewList.get(reviewList.size() - 1);
+        boolean sortByScore = "ratingDesc".equals(sort) || "ratingAsc".equals(sort);
+        return (sortByScore ? KeysetCursor.of(last.getScore(), last.getReviewId()) : KeysetCursor.of(last.getCreatedAt(), last.getReviewId())).encode();
+    }
+
+}
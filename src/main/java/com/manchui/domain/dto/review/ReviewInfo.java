@@ -9,6 +9,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class ReviewInfo {
 
+    private Long reviewId;
+
     private String name;
 
     private String profileImagePath;
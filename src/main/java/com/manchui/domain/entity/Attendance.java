@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Comment;
 
 @Entity
-@Table(name = "attendance")
+@Table(name = "attendance", indexes = {
+        @Index(name = "idx_attendance_gathering_deleted_at", columnList = "gathering_id, deleted_at"),
+        @Index(name = "idx_attendance_user_gathering", columnList = "user_id, gathering_id")
+})
 @Builder
 @Getter
 @NoArgsConstructor
@@ -16,7 +16,12 @@ import org.hibernate.annotations.Comment;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "gathering")
+@Table(name = "gathering", indexes = {
+        @Index(name = "idx_gathering_status_created_at", columnList = "is_canceled, is_closed, created_at, gathering_id"),
+        @Index(name = "idx_gathering_status_due_date", columnList = "is_canceled, is_closed, due_date, gathering_id"),
+        @Index(name = "idx_gathering_user_group_name", columnList = "user_id, group_name"),
+        @Index(name = "idx_gathering_user_created_at", columnList = "user_id, created_at, gathering_id")
+})
 @Builder
 @Getter
 @NoArgsConstructor
@@ -81,6 +86,21 @@ public class Gathering extends Timestamped {
     @Builder.Default
     private boolean isClosed = false;
 
+    @Column(name = "current_users", nullable = false)
+    @Comment("현재 참여 인원")
+    @Builder.Default
+    private int currentUsers = 0;
+
+    // 좋아요 수는 HeartCounter 가 모아서 일괄 반영하므로 엔티티 변경 감지로는 갱신하지 않음
+    @Column(name = "heart_count", nullable = false, updatable = false)
+    @Comment("좋아요 수")
+    @Builder.Default
+    private int heartCount = 0;
+
+    @Column(name = "gathering_image")
+    @Comment("모임 이미지 경로")
+    private String gatheringImage;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     @Comment("회원 id")
@@ -125,10 +145,29 @@ public class Gathering extends Timestamped {
         this.isOpened = false;
     }
 
+    // 모임 참여 시 현재 참여 인원 증가
+    public void increaseCurrentUsers() {
+
+        this.currentUsers++;
+    }
+
+    // 모임 참여 취소 시 현재 참여 인원 감소
+    public void decreaseCurrentUsers() {
+
+        this.currentUsers--;
+    }
+
+    public void updateGatheringImage(String gatheringImage) {
+
+        this.gatheringImage = gatheringImage;
+    }
+
+    // 주최자를 제외한 참여자는 모두 참여 취소되므로 현재 참여 인원은 주최자 1명
     public void reopen(LocalDateTime gatheringDate, LocalDateTime dueDate, String location, int maxUsers, int minUsers, String gatheringContent) {
 
         this.isOpened = false;
         this.isClosed = false;
+        this.currentUsers = 1;
         this.gatheringDate = gatheringDate;
         this.dueDate = dueDate;
         this.location = location;
@@ -0,0 +1,91 @@
+package com.manchui.domain.entity;
+
+import com.manchui.domain.dto.review.ReviewScoreInfo;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+// 모임별 후기 평점 집계 (삭제되지 않은 후기 기준)
+@Entity
+@Table(name = "gathering_rating")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GatheringRating {
+
+    @Id
+    @Column(name = "gathering_id")
+    @Comment("모임 id")
+    private Long gatheringId;
+
+    @Column(name = "review_count", nullable = false)
+    @Comment("후기 개수")
+    private long reviewCount;
+
+    @Column(name = "score_sum", nullable = false)
+    @Comment("후기 평점 합계")
+    private long scoreSum;
+
+    @Column(name = "five_score_count", nullable = false)
+    @Comment("5점 후기 개수")
+    private long fiveScoreCount;
+
+    @Column(name = "four_score_count", nullable = false)
+    @Comment("4점 후기 개수")
+    private long fourScoreCount;
+
+    @Column(name = "three_score_count", nullable = false)
+    @Comment("3점 후기 개수")
+    private long threeScoreCount;
+
+    @Column(name = "two_score_count", nullable = false)
+    @Comment("2점 후기 개수")
+    private long twoScoreCount;
+
+    @Column(name = "one_score_count", nullable = false)
+    @Comment("1점 후기 개수")
+    private long oneScoreCount;
+
+    // 후기 등록 시 반영
+    public void addScore(int score) {
+
+        reviewCount++;
+        scoreSum += score;
+        changeScoreCount(score, 1);
+    }
+
+    // 후기 삭제 시 반영
+    public void removeScore(int score) {
+
+        reviewCount--;
+        scoreSum -= score;
+        changeScoreCount(score, -1);
+    }
+
+    // 후기 평점 수정 시 반영
+    public void changeScore(int oldScore, int newScore) {
+
+        removeScore(oldScore);
+        addScore(newScore);
+    }
+
+    public ReviewScoreInfo toScoreInfo() {
+
+        double avgScore = reviewCount == 0 ? 0.0 : (double) scoreSum / reviewCount;
+        return new ReviewScoreInfo(avgScore, fiveScoreCount, fourScoreCount, threeScoreCount, twoScoreCount, oneScoreCount);
+    }
+
+    private void changeScoreCount(int score, int delta) {
+
+        switch (score) {
+            case 5 -> fiveScoreCount += delta;
+            case 4 -> fourScoreCount += delta;
+            case 3 -> threeScoreCount += delta;
+            case 2 -> twoScoreCount += delta;
+            case 1 -> oneScoreCount += delta;
+            default -> throw new IllegalArgumentException("후기 평점은 1점에서 5점 사이여야 합니다.");
+        }
+    }
+
+}
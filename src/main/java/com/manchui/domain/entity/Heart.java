@@ -11,7 +11,11 @@ import org.hibernate.annotations.Comment;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "heart")
+@Table(name = "heart", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_heart_user_gathering", columnNames = {"user_id", "gathering_id"})
+}, indexes = {
+        @Index(name = "idx_heart_gathering_user", columnList = "gathering_id, user_id")
+})
 public class Heart extends Timestamped {
 
     @Id
@@ -0,0 +1,29 @@
+package com.manchui.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+// DB 에 반영된 좋아요 증감량 batch (같은 batch 를 다시 반영하지 않도록 heart_count 갱신과 같은 트랜잭션에서 기록)
+@Entity
+@Table(name = "heart_flush_batch", indexes = {
+        @Index(name = "idx_heart_flush_batch_applied_at", columnList = "applied_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HeartFlushBatch {
+
+    @Id
+    @Column(name = "batch_id", length = 36)
+    @Comment("증감량 batch id")
+    private String batchId;
+
+    @Column(name = "applied_at", nullable = false)
+    @Comment("반영 시각")
+    private LocalDateTime appliedAt;
+
+}
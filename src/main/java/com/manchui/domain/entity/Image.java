@@ -6,7 +6,9 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Comment;
 
 @Entity
-@Table(name = "image")
+@Table(name = "image", indexes = {
+        @Index(name = "idx_image_gathering", columnList = "gathering_id")
+})
 @Getter
 @NoArgsConstructor
 public class Image {
@@ -8,7 +8,14 @@ import lombok.*;
 import org.hibernate.annotations.Comment;
 
 @Entity
-@Table(name = "review")
+@Table(name = "review", indexes = {
+        @Index(name = "idx_review_gathering_score", columnList = "gathering_id, score"),
+        @Index(name = "idx_review_gathering_created_at", columnList = "gathering_id, created_at, id"),
+        @Index(name = "idx_review_user_created_at", columnList = "user_id, created_at"),
+        @Index(name = "idx_review_user_gathering", columnList = "user_id, gathering_id, deleted_at"),
+        @Index(name = "idx_review_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_review_score", columnList = "score, id")
+})
 @Builder
 @Getter
 @AllArgsConstructor
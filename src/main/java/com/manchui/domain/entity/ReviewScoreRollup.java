@@ -0,0 +1,45 @@
+package com.manchui.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDate;
+
+// 후기 목록 점수 통계용 (카테고리, 모임 장소, 후기 작성일, 평점) 별 후기 개수 집계 (삭제되지 않은 후기 기준)
+@Entity
+@Table(name = "review_score_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_review_score_rollup", columnNames = {"category", "location", "review_date", "score"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewScoreRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("집계 id")
+    private Long id;
+
+    @Column(name = "category", nullable = false)
+    @Comment("모임 카테고리")
+    private String category;
+
+    @Column(name = "location", nullable = false)
+    @Comment("모임 장소")
+    private String location;
+
+    @Column(name = "review_date", nullable = false)
+    @Comment("후기 작성일")
+    private LocalDate reviewDate;
+
+    @Column(name = "score", nullable = false)
+    @Comment("후기 평점")
+    private int score;
+
+    @Column(name = "review_count", nullable = false)
+    @Comment("후기 개수")
+    private long reviewCount;
+
+}
@@ -0,0 +1,36 @@
+package com.manchui.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 모임 생성/취소/마감/참여 인원 변경 등 모임 목록 조회 결과가 바뀌는 경우 발행
+@Getter
+@AllArgsConstructor
+public class GatheringChangedEvent {
+
+    private List<Long> gatheringIds;
+
+    private ChangeType changeType;
+
+    public GatheringChangedEvent(Long gatheringId, ChangeType changeType) {
+
+        this.gatheringIds = List.of(gatheringId);
+        this.changeType = changeType;
+    }
+
+    public enum ChangeType {
+
+        // 모임 생성 및 재생성 (목록에 새로 추가됨)
+        CREATED,
+
+        // 모임 취소 및 마감 (목록에서 빠짐)
+        REMOVED,
+
+        // 참여 인원 변경 (목록에 남아 있지만 내용이 바뀜)
+        UPDATED
+
+    }
+
+}
@@ -1,9 +1,12 @@
 package com.manchui.domain.repository;
 
+import com.manchui.domain.dto.UserInfo;
 import com.manchui.domain.entity.Attendance;
 import com.manchui.domain.entity.Gathering;
 import com.manchui.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,8 +17,13 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
     List<Attendance> findByGathering(Gathering gathering);
 
-    int countByGatheringAndDeletedAtIsNull(Gathering gathering);
+    // 참여 취소하지 않은 참여자의 이름, 프로필 이미지 조회
+    @Query("select new com.manchui.domain.dto.UserInfo(u.name, u.profileImagePath) " +
+            "from Attendance a join a.user u " +
+            "where a.gathering.id = :gatheringId and a.deletedAt is null")
+    List<UserInfo> findParticipants(@Param("gatheringId") Long gatheringId);
 
-    List<Attendance> findByUserAndDeletedAtIsNull(User user);
+    @Query("select a.user.email from Attendance a where a.gathering = :gathering and a.deletedAt is null")
+    List<String> findUserEmailsByGathering(@Param("gathering") Gathering gathering);
 
 }
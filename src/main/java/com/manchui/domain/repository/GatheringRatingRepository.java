@@ -0,0 +1,41 @@
+package com.manchui.domain.repository;
+
+import com.manchui.domain.entity.GatheringRating;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface GatheringRatingRepository extends JpaRepository<GatheringRating, Long> {
+
+    // 집계 행이 없는 모임이면 빈 집계 행 생성 (동시에 생성되어도 한 행만 남음)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO gathering_rating " +
+            "(gathering_id, review_count, score_sum, five_score_count, four_score_count, three_score_count, two_score_count, one_score_count) " +
+            "VALUES (:gatheringId, 0, 0, 0, 0, 0, 0, 0)", nativeQuery = true)
+    void insertIfAbsent(@Param("gatheringId") Long gatheringId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from GatheringRating r where r.gatheringId = :gatheringId")
+    Optional<GatheringRating> findByIdForUpdate(@Param("gatheringId") Long gatheringId);
+
+    // 삭제되지 않은 후기 기준으로 전체 집계 재계산, 변경된 행 수 반환
+    @Modifying
+    @Query(value = "INSERT INTO gathering_rating " +
+            "(gathering_id, review_count, score_sum, five_score_count, four_score_count, three_score_count, two_score_count, one_score_count) " +
+            "SELECT g.gathering_id, COUNT(r.id), COALESCE(SUM(r.score), 0), " +
+            "COALESCE(SUM(r.score = 5), 0), COALESCE(SUM(r.score = 4), 0), COALESCE(SUM(r.score = 3), 0), " +
+            "COALESCE(SUM(r.score = 2), 0), COALESCE(SUM(r.score = 1), 0) " +
+            "FROM gathering g LEFT JOIN review r ON r.gathering_id = g.gathering_id AND r.deleted_at IS NULL " +
+            "GROUP BY g.gathering_id " +
+            "ON DUPLICATE KEY UPDATE review_count = VALUES(review_count), score_sum = VALUES(score_sum), " +
+            "five_score_count = VALUES(five_score_count), four_score_count = VALUES(four_score_count), " +
+            "three_score_count = VALUES(three_score_count), two_score_count = VALUES(two_score_count), " +
+            "one_score_count = VALUES(one_score_count)", nativeQuery = true)
+    int rebuildAll();
+
+}
@@ -4,9 +4,11 @@ import com.manchui.domain.entity.Gathering;
 import com.manchui.domain.entity.User;
 import com.manchui.domain.repository.querydsl.GatheringCursorQueryDsl;
 import com.manchui.domain.repository.querydsl.GatheringQueryDsl;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,10 +17,13 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long>, Gat
 
     Optional<Gathering> findByUserAndGroupName(User user, String groupName);
 
-    Page<Gathering> findByUserEquals(User user, Pageable pageable);
-
-    Page<Gathering> findByIdIn(List<Long> gatheringIdList, Pageable pageable);
+    long countByUser(User user);
 
     List<Gathering> findByUserAndIsClosedAndIsCanceled(User user, boolean isClosed, boolean isCanceled);
 
+    // 참여 인원 변경 시 동시 요청으로 인한 정원 초과를 막기 위해 쓰기 락을 걸고 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select g from Gathering g where g.id = :gatheringId")
+    Optional<Gathering> findByIdForUpdate(@Param("gatheringId") Long gatheringId);
+
 }
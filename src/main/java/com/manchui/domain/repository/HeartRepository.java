@@ -4,14 +4,30 @@ import com.manchui.domain.entity.Gathering;
 import com.manchui.domain.entity.Heart;
 import com.manchui.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.UUID;
 
 public interface HeartRepository extends JpaRepository<Heart, Long> {
 
-    List<Heart> findByGathering(Gathering gathering);
+    @Query("select h.gathering.id from Heart h where h.user.id = :userId")
+    List<Long> findGatheringIdsByUserId(@Param("userId") UUID userId);
 
-    Optional<Heart> findByUserAndGathering(User user, Gathering gathering);
+    @Query("select h.gathering.id from Heart h where h.user.email = :email")
+    List<Long> findGatheringIdsByUserEmail(@Param("email") String email);
+
+    @Query("select h.user.email from Heart h where h.gathering = :gathering")
+    List<String> findUserEmailsByGathering(@Param("gathering") Gathering gathering);
+
+    @Modifying
+    @Query("delete from Heart h where h.user = :user and h.gathering = :gathering")
+    int deleteByUserAndGathering(@Param("user") User user, @Param("gathering") Gathering gathering);
+
+    @Modifying
+    @Query("delete from Heart h where h.gathering = :gathering")
+    int deleteAllByGathering(@Param("gathering") Gathering gathering);
 
 }
@@ -3,22 +3,18 @@ package com.manchui.domain.repository;
 import com.manchui.domain.entity.Gathering;
 import com.manchui.domain.entity.Review;
 import com.manchui.domain.entity.User;
+import com.manchui.domain.repository.querydsl.ReviewCursorQueryDsl;
 import com.manchui.domain.repository.querydsl.ReviewQueryDsl;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
 import java.util.Optional;
 
-public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewQueryDsl {
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewQueryDsl, ReviewCursorQueryDsl {
 
     Optional<Review> findByGatheringAndUser(Gathering gathering, User user);
 
-    Page<Review> findByUser(User user, Pageable pageable);
-
     Optional<Review> findByIdAndDeletedAtIsNull(Long reviewId);
 
-    List<Review> findByUserAndDeletedAtIsNull(User user);
+    long countByUserAndDeletedAtIsNull(User user);
 
 }
@@ -0,0 +1,78 @@
+package com.manchui.domain.repository.querydsl;
+
+import com.manchui.domain.entity.QGathering;
+import com.manchui.domain.entity.QReview;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import static com.manchui.domain.entity.QGathering.gathering;
+import static com.manchui.domain.entity.QReview.review;
+
+/**
+ * 모임 이름/내용, 후기 내용 검색 조건
+ * MySQL FULLTEXT(ngram parser) 인덱스를 사용하고, 검색어가 ngram 토큰보다 짧거나 전문 검색이 꺼져 있으면 기존과 같은 LIKE 조건으로 검색한다.
+ * (모임 내용까지 검색하는 것은 전문 검색을 사용할 때만)
+ * 전문 검색은 db/migration/003 으로 인덱스를 만든 뒤 search.fulltext.enabled 를 켜야 사용된다.
+ */
+@Component
+public class FullTextSearch {
+
+    @Value("${search.fulltext.enabled}")
+    private boolean enabled;
+
+    // MySQL ngram_token_size 와 같은 값
+    @Value("${search.fulltext.min-query-length}")
+    private int minQueryLength;
+
+    // 모임 이름(전문 검색 시 모임 내용 포함)에 검색어가 포함된 모임
+    public BooleanExpression gatheringMatches(String query) {
+
+        if (!useFullText(query)) {
+            return gathering.groupName.contains(query);
+        }
+
+        return gatheringFullTextMatches(gathering, query);
+    }
+
+    // 후기 내용 또는 후기를 작성한 모임의 이름(전문 검색 시 모임 내용 포함)에 검색어가 포함된 후기
+    public BooleanExpression reviewMatches(String query) {
+
+        if (!useFullText(query)) {
+            return review.comment.contains(query).or(gathering.groupName.contains(query));
+        }
+
+        // 서로 다른 테이블의 MATCH 를 OR 로 묶으면 인덱스 대신 행마다 MATCH 를 평가하므로,
+        // 각 인덱스로 일치하는 id 를 먼저 구하는 subquery 두 개로 나눔
+        QReview matchedReview = new QReview("matchedReview");
+        QGathering matchedGathering = new QGathering("matchedGathering");
+
+        return review.id.in(JPAExpressions.select(matchedReview.id)
+                        .from(matchedReview)
+                        .where(Expressions.numberTemplate(Double.class, "match_against({0}, {1})",
+                                matchedReview.comment, toPhrase(query)).gt(0.0)))
+                .or(review.gathering.id.in(JPAExpressions.select(matchedGathering.id)
+                        .from(matchedGathering)
+                        .where(gatheringFullTextMatches(matchedGathering, query))));
+    }
+
+    private BooleanExpression gatheringFullTextMatches(QGathering target, String query) {
+
+        return Expressions.numberTemplate(Double.class, "match_against2({0}, {1}, {2})",
+                target.groupName, target.gatheringContent, toPhrase(query)).gt(0.0);
+    }
+
+    private boolean useFullText(String query) {
+
+        return enabled && query.strip().length() >= minQueryLength;
+    }
+
+    // boolean mode 의 구문 검색으로 변환
+    private String toPhrase(String query) {
+
+        return "\"" + query.strip().replace("\"", "") + "\"";
+    }
+
+}
@@ -1,13 +1,38 @@
 package com.manchui.domain.repository.querydsl;
 
-import com.manchui.domain.dto.gathering.GatheringCursorPagingResponse;
+import com.manchui.domain.dto.User.GatheringInfo;
+import com.manchui.domain.dto.User.ReviewableGatheringInfo;
+import com.manchui.domain.dto.gathering.GatheringListFilter;
+import com.manchui.domain.dto.gathering.GatheringListResponse;
+import com.manchui.domain.entity.User;
+
+import java.util.List;
+import java.util.Set;
 
 public interface GatheringCursorQueryDsl {
 
     // 비회원 모임 목록 조회 (커서 기반 페이징)
-    GatheringCursorPagingResponse getGatheringListByGuest(Long cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, boolean available);
+    List<GatheringListResponse> getGatheringListByGuest(String cursor, int size, GatheringListFilter filter, String sort);
 
     // 회원 모임 목록 조회 (커서 기반 페이징)
-    GatheringCursorPagingResponse getGatheringListByUser(String email, Long cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, boolean available);
+    List<GatheringListResponse> getGatheringListByUser(String email, String cursor, int size, GatheringListFilter filter, String sort);
+
+    // 모임 목록 전체 개수 조회
+    long countGatherings(GatheringListFilter filter);
+
+    // 찜한 모임 목록 조회 (커서 기반 페이징)
+    List<GatheringListResponse> getHeartListByCursor(String email, Set<Long> heartedGatheringIds, String cursor, int size, GatheringListFilter filter, String sort);
+
+    // 찜한 모임 목록 전체 개수 조회
+    long countHeartGatherings(Set<Long> heartedGatheringIds, GatheringListFilter filter);
+
+    // 회원이 생성한 모임 목록 조회 (커서 기반 페이징)
+    List<GatheringInfo> getWrittenGatheringsByCursor(User writer, String cursor, int size);
+
+    // 회원이 참여한 모임 목록 조회 (커서 기반 페이징)
+    List<GatheringInfo> getParticipatedGatheringsByCursor(User participant, String cursor, int size);
+
+    // 회원이 후기를 작성할 수 있는 모임 목록 조회 (커서 기반 페이징)
+    List<ReviewableGatheringInfo> getReviewableGatheringsByCursor(User participant, String cursor, int size);
 
 }
@@ -1,13 +1,16 @@
 package com.manchui.domain.repository.querydsl;
 
-import com.manchui.domain.dto.gathering.GatheringCursorPagingResponse;
+import com.manchui.domain.dto.KeysetCursor;
+import com.manchui.domain.dto.User.GatheringInfo;
+import com.manchui.domain.dto.User.ReviewableGatheringInfo;
+import com.manchui.domain.dto.gathering.GatheringListFilter;
 import com.manchui.domain.dto.gathering.GatheringListResponse;
+import com.manchui.domain.entity.User;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
@@ -16,13 +19,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.manchui.domain.entity.QAttendance.attendance;
 import static com.manchui.domain.entity.QGathering.gathering;
-import static com.manchui.domain.entity.QHeart.heart;
-import static com.manchui.domain.entity.QImage.image;
 import static com.manchui.domain.entity.QUser.user;
-import static com.querydsl.jpa.JPAExpressions.select;
 
 @Slf4j
 public class GatheringCursorQueryDslImpl implements GatheringCursorQueryDsl {
@@ -30,73 +31,191 @@ public class GatheringCursorQueryDslImpl implements GatheringCursorQueryDsl {
     private static final String DEFAULT_SORT_FIELD = "createdAt";
     private final JPAQueryFactory queryFactory;
 
-    public GatheringCursorQueryDslImpl(EntityManager em) {
+    private final FullTextSearch fullTextSearch;
+
+    public GatheringCursorQueryDslImpl(EntityManager em, FullTextSearch fullTextSearch) {
 
         this.queryFactory = new JPAQueryFactory(em);
+        this.fullTextSearch = fullTextSearch;
     }
 
     @Override
-    public GatheringCursorPagingResponse getGatheringListByGuest(Long cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, boolean available) {
+    public List<GatheringListResponse> getGatheringListByGuest(String cursor, int size, GatheringListFilter filter, String sort) {
 
-        return getGatheringList(null, cursor, size, query, location, startDate, endDate, category, sort, available);
+        return getGatheringList(null, cursor, size, buildBaseConditions(filter), sort);
     }
 
     @Override
-    public GatheringCursorPagingResponse getGatheringListByUser(String email, Long cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, boolean available) {
+    public List<GatheringListResponse> getGatheringListByUser(String email, String cursor, int size, GatheringListFilter filter, String sort) {
 
-        return getGatheringList(email, cursor, size, query, location, startDate, endDate, category, sort, available);
+        return getGatheringList(email, cursor, size, buildBaseConditions(filter), sort);
     }
 
-    private GatheringCursorPagingResponse getGatheringList(String email, Long cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, boolean available) {
+    // 전체 개수 조회 쿼리 (커서 조건 제외)
+    @Override
+    public long countGatherings(GatheringListFilter filter) {
 
-        updateIsClosedStatus();
+        log.info("모임 목록 전체 개수 조회 쿼리 실행");
 
-        log.info("{} 모임 목록 조회 요청", (email != null) ? email : "비회원");
+        return Optional.ofNullable(
+                queryFactory
+                        .select(gathering.count())
+                        .from(gathering)
+                        .where(buildBaseConditions(filter))
+                        .fetchOne()
+        ).orElse(0L);
+    }
 
-        String sortField = (sort == null) ? DEFAULT_SORT_FIELD : sort;
+    // 찜한 모임만 필터링 (회원별 좋아요 모임 집합 사용)
+    @Override
+    public List<GatheringListResponse> getHeartListByCursor(String email, Set<Long> heartedGatheringIds, String cursor, int size, GatheringListFilter filter, String sort) {
 
-        // 커서 조건을 제외한 기본 조건 빌더
-        BooleanBuilder baseConditions = new BooleanBuilder()
-                .and(buildFilterConditions(query, location, startDate, endDate, category));
-
-        if (available) {
-            baseConditions.and(gathering.maxUsers.gt(
-                    JPAExpressions
-                            .select(attendance.count())
-                            .from(attendance)
-                            .where(attendance.gathering.id.eq(gathering.id)
-                                    .and(attendance.deletedAt.isNull()))
-            ));
+        return getGatheringList(email, cursor, size, buildBaseConditions(filter).and(gathering.id.in(heartedGatheringIds)), sort);
+    }
+
+    @Override
+    public long countHeartGatherings(Set<Long> heartedGatheringIds, GatheringListFilter filter) {
+
+        return Optional.ofNullable(
+                queryFactory
+                        .select(gathering.count())
+                        .from(gathering)
+                        .where(buildBaseConditions(filter).and(gathering.id.in(heartedGatheringIds)))
+                        .fetchOne()
+        ).orElse(0L);
+    }
+
+    @Override
+    public List<GatheringInfo> getWrittenGatheringsByCursor(User writer, String cursor, int size) {
+
+        BooleanBuilder conditions = new BooleanBuilder(gathering.user.eq(writer));
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        if (keysetCursor != null) {
+            conditions.and(afterCreatedAtCursor(keysetCursor));
+        }
+
+        return queryFactory
+                .select(buildGatheringInfoProjection())
+                .from(gathering)
+                .where(conditions)
+                .orderBy(gathering.createdAt.desc(), gathering.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 취소되지 않은 모임 중 본인이 생성하지 않은 모임
+    @Override
+    public List<GatheringInfo> getParticipatedGatheringsByCursor(User participant, String cursor, int size) {
+
+        BooleanBuilder conditions = new BooleanBuilder()
+                .and(attendance.user.eq(participant))
+                .and(attendance.deletedAt.isNull())
+                .and(gathering.isCanceled.eq(false))
+                .and(gathering.user.ne(participant));
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        if (keysetCursor != null) {
+            conditions.and(afterCreatedAtCursor(keysetCursor));
+        }
+
+        return queryFactory
+                .select(buildGatheringInfoProjection())
+                .from(attendance)
+                .join(attendance.gathering, gathering)
+                .where(conditions)
+                .orderBy(gathering.createdAt.desc(), gathering.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<ReviewableGatheringInfo> getReviewableGatheringsByCursor(User participant, String cursor, int size) {
+
+        BooleanBuilder conditions = new BooleanBuilder(ReviewableGatheringCondition.of(participant));
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        if (keysetCursor != null) {
+            conditions.and(afterCreatedAtCursor(keysetCursor));
         }
 
-        // 1. 목록 조회 쿼리 (커서 조건 포함)
-        BooleanBuilder listConditions = new BooleanBuilder(baseConditions);
-        if (cursor != null) {
-            listConditions.and(gathering.id.lt(cursor));
+        return queryFactory
+                .select(Projections.constructor(
+                        ReviewableGatheringInfo.class,
+                        gathering.id,
+                        gathering.groupName,
+                        gathering.category,
+                        gathering.location,
+                        gathering.gatheringImage,
+                        gathering.gatheringDate,
+                        gathering.maxUsers.longValue(),
+                        gathering.currentUsers.longValue(),
+                        gathering.createdAt,
+                        gathering.updatedAt
+                ))
+                .from(attendance)
+                .join(attendance.gathering, gathering)
+                .where(conditions)
+                .orderBy(gathering.createdAt.desc(), gathering.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    private List<GatheringListResponse> getGatheringList(String email, String cursor, int size, BooleanBuilder listConditions, String sort) {
+
+        log.info("{} 모임 목록 조회 요청", (email != null) ? email : "비회원");
+
+        String sortField = (sort == null) ? DEFAULT_SORT_FIELD : sort;
+        boolean sortByCloseDate = sortField.equals("closeDate");
+
+        // 목록 조회 쿼리 (커서 조건 포함)
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        if (keysetCursor != null) {
+            listConditions.and(sortByCloseDate ? afterCloseDateCursor(keysetCursor) : afterCreatedAtCursor(keysetCursor));
         }
 
-        List<GatheringListResponse> gatheringList = queryFactory
-                .select(buildGatheringListProjection(email))
+        return queryFactory
+                .select(buildGatheringListProjection())
                 .from(gathering)
                 .leftJoin(gathering.user, user)
                 .where(listConditions)
-                .orderBy(sortField.equals("closeDate") ? gathering.dueDate.asc() : gathering.createdAt.desc())
+                .orderBy(sortByCloseDate
+                        ? new OrderSpecifier<?>[]{gathering.dueDate.asc(), gathering.id.asc()}
+                        : new OrderSpecifier<?>[]{gathering.createdAt.desc(), gathering.id.desc()})
                 .limit(size)
                 .fetch();
+    }
 
-        // 2. 전체 개수 조회 쿼리 (커서 조건 제외)
-        long gatheringCount = Optional.ofNullable(
-                queryFactory
-                        .select(gathering.count())
-                        .from(gathering)
-                        .where(baseConditions)
-                        .fetchOne()
-        ).orElse(0L);
+    // 커서 조건을 제외한 기본 조건 빌더
+    private BooleanBuilder buildBaseConditions(GatheringListFilter filter) {
+
+        BooleanBuilder baseConditions = new BooleanBuilder()
+                .and(buildFilterConditions(filter.getQuery(), filter.getLocation(), filter.getStartDate(), filter.getEndDate(), filter.getCategory()));
+
+        if (filter.isAvailable()) {
+            baseConditions.and(gathering.maxUsers.gt(gathering.currentUsers));
+        }
+
+        return baseConditions;
+    }
+
+    // (dueDate, id) 오름차순 기준 커서 이후의 모임
+    private BooleanExpression afterCloseDateCursor(KeysetCursor cursor) {
 
-        return new GatheringCursorPagingResponse(gatheringList, (int) gatheringCount);
+        LocalDateTime dueDate = cursor.getDateTimeKey();
+        return gathering.dueDate.gt(dueDate)
+                .or(gathering.dueDate.eq(dueDate).and(gathering.id.gt(cursor.getId())));
     }
 
-    private ConstructorExpression<GatheringListResponse> buildGatheringListProjection(String email) {
+    // (createdAt, id) 내림차순 기준 커서 이후의 모임
+    private BooleanExpression afterCreatedAtCursor(KeysetCursor cursor) {
+
+        LocalDateTime createdAt = cursor.getDateTimeKey();
+        return gathering.createdAt.lt(createdAt)
+                .or(gathering.createdAt.eq(createdAt).and(gathering.id.lt(cursor.getId())));
+    }
+
+    // 좋아요 여부(isHearted)는 서비스에서 회원별 좋아요 모임 집합으로 채움
+    private ConstructorExpression<GatheringListResponse> buildGatheringListProjection() {
 
         return Projections.constructor(
                 GatheringListResponse.class,
@@ -106,56 +225,53 @@ public class GatheringCursorQueryDslImpl implements GatheringCursorQueryDsl {
                 gathering.groupName,
                 gathering.category,
                 gathering.location,
-                Expressions.as(
-                        queryFactory.select(image.filePath)
-                                .from(image)
-                                .where(image.gatheringId.eq(gathering.id)),
-                        "gatheringImage"
-                ),
+                gathering.gatheringImage,
                 gathering.gatheringDate,
                 gathering.dueDate,
                 gathering.maxUsers,
                 gathering.minUsers,
-                Expressions.as(
-                        queryFactory.select(attendance.count())
-                                .from(attendance)
-                                .where(attendance.gathering.id.eq(gathering.id)
-                                        .and(attendance.deletedAt.isNull())),
-                        "currentUsers"
-                ),
-                Expressions.as(
-                        select(heart.count())
-                                .from(heart)
-                                .where(heart.gathering.id.eq(gathering.id)),
-                        "heartCounts"
-                ),
+                gathering.currentUsers,
+                gathering.heartCount.as("heartCounts"),
+                gathering.isOpened,
+                gathering.isClosed,
+                gathering.createdAt,
+                gathering.updatedAt,
+                gathering.deletedAt
+        );
+    }
+
+    // 참여 인원은 모임의 currentUsers 사용
+    private ConstructorExpression<GatheringInfo> buildGatheringInfoProjection() {
+
+        return Projections.constructor(
+                GatheringInfo.class,
+                gathering.id,
+                gathering.groupName,
+                gathering.category,
+                gathering.location,
+                gathering.gatheringImage,
+                gathering.gatheringDate,
+                gathering.dueDate,
+                gathering.maxUsers,
+                gathering.currentUsers,
                 gathering.isOpened,
+                gathering.isCanceled,
                 gathering.isClosed,
                 gathering.createdAt,
                 gathering.updatedAt,
-                gathering.deletedAt,
-                Expressions.as(
-                        queryFactory.select(heart.count())
-                                .from(heart)
-                                .where(
-                                        heart.gathering.id.eq(gathering.id)
-                                                .and(
-                                                        email != null
-                                                                ? heart.user.email.eq(email)
-                                                                : heart.user.email.isNull()
-                                                )
-                                ).gt(0L),
-                        "isHearted"
-                )
+                gathering.deletedAt
         );
     }
 
     private BooleanExpression buildFilterConditions(String query, String location, String startDate, String endDate, String category) {
 
-        BooleanExpression condition = gathering.isCanceled.eq(false).and(gathering.isClosed.eq(false));
+        // 마감 스케줄러가 isClosed 를 반영하기 전이라도 마감 기한이 지난 모임은 제외
+        BooleanExpression condition = gathering.isCanceled.eq(false)
+                .and(gathering.isClosed.eq(false))
+                .and(gathering.dueDate.after(LocalDateTime.now()));
 
         if (query != null && !query.isEmpty()) {
-            condition = condition.and(gathering.groupName.contains(query));
+            condition = condition.and(fullTextSearch.gatheringMatches(query));
         }
 
         if (location != null && !location.isEmpty()) {
@@ -175,15 +291,4 @@ public class GatheringCursorQueryDslImpl implements GatheringCursorQueryDsl {
         return condition;
     }
 
-    private void updateIsClosedStatus() {
-
-        long updatedCount = queryFactory.update(gathering)
-                .set(gathering.isClosed, true)
-                .where(gathering.dueDate.before(LocalDateTime.now())
-                        .and(gathering.isClosed.eq(false)))
-                .execute();
-
-        log.info("모임의 isClosed 상태가 {} 번 업데이트되었습니다.", updatedCount);
-    }
-
 }
@@ -1,11 +1,40 @@
 package com.manchui.domain.repository.querydsl;
 
+import com.manchui.domain.dto.User.GatheringInfo;
+import com.manchui.domain.dto.User.ReviewableGatheringInfo;
+import com.manchui.domain.dto.gathering.GatheringDueDate;
 import com.manchui.domain.dto.gathering.GatheringListResponse;
+import com.manchui.domain.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
 public interface GatheringQueryDsl {
 
-    Page<GatheringListResponse> getHeartList(String email, Pageable pageable, String query, String location, String startDate, String endDate, String category, String sort, boolean available);
+    Page<GatheringListResponse> getHeartList(String email, Set<Long> heartedGatheringIds, Pageable pageable, String query, String location, String startDate, String endDate, String category, String sort, boolean available);
+
+    // 회원이 생성한 모임 목록 조회
+    Page<GatheringInfo> getWrittenGatherings(User writer, Pageable pageable);
+
+    // 회원이 참여한 모임 목록 조회
+    Page<GatheringInfo> getParticipatedGatherings(User participant, Pageable pageable);
+
+    // 회원이 후기를 작성할 수 있는 모임 목록 조회
+    Page<ReviewableGatheringInfo> getReviewableGatherings(User participant, Pageable pageable);
+
+    // 회원이 참여한 모임 개수 조회
+    long countParticipatedGatherings(User participant);
+
+    // 회원이 후기를 작성할 수 있는 모임 개수 조회
+    long countReviewableGatherings(User participant);
+
+    // 마감되지 않은 모임 중 until 이전에 마감 기한이 도래하는 모임 조회
+    List<GatheringDueDate> findGatheringDueDates(LocalDateTime until);
+
+    // 마감 기한이 지난 모임의 isClosed 상태 일괄 변경
+    long closeGatherings(List<Long> gatheringIds, LocalDateTime now);
 
 }
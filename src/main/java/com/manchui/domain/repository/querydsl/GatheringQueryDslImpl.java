@@ -1,8 +1,17 @@
 package com.manchui.domain.repository.querydsl;
 
+import com.manchui.domain.dto.User.GatheringInfo;
+import com.manchui.domain.dto.User.ReviewableGatheringInfo;
+import com.manchui.domain.dto.gathering.GatheringDueDate;
 import com.manchui.domain.dto.gathering.GatheringListResponse;
+import com.manchui.domain.entity.Gathering;
+import com.manchui.domain.entity.User;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
@@ -10,71 +19,179 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.manchui.domain.entity.QAttendance.attendance;
 import static com.manchui.domain.entity.QGathering.gathering;
-import static com.manchui.domain.entity.QHeart.heart;
-import static com.manchui.domain.entity.QImage.image;
 import static com.manchui.domain.entity.QUser.user;
-import static com.querydsl.jpa.JPAExpressions.select;
 
 @Slf4j
 public class GatheringQueryDslImpl implements GatheringQueryDsl {
 
     private final JPAQueryFactory queryFactory;
 
-    public GatheringQueryDslImpl(EntityManager em) {
+    private final FullTextSearch fullTextSearch;
+
+    public GatheringQueryDslImpl(EntityManager em, FullTextSearch fullTextSearch) {
 
         this.queryFactory = new JPAQueryFactory(em);
+        this.fullTextSearch = fullTextSearch;
+    }
+
+    @Override
+    public Page<GatheringListResponse> getHeartList(String email, Set<Long> heartedGatheringIds, Pageable pageable, String query, String location, String startDate, String endDate, String category, String sort, boolean available) {
+
+        // 좋아요한 모임이 없으면 조회하지 않음
+        if (heartedGatheringIds.isEmpty()) return Page.empty(pageable);
+
+        return getHeartGatheringList(email, heartedGatheringIds, pageable, query, location, startDate, endDate, category, sort, available);
+    }
+
+    @Override
+    public Page<GatheringInfo> getWrittenGatherings(User writer, Pageable pageable) {
+
+        List<GatheringInfo> gatheringList = queryFactory
+                .select(buildGatheringInfoProjection())
+                .from(gathering)
+                .where(gathering.user.eq(writer))
+                .orderBy(toOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(gatheringList, pageable, () -> Optional.ofNullable(
+                queryFactory
+                        .select(gathering.count())
+                        .from(gathering)
+                        .where(gathering.user.eq(writer))
+                        .fetchOne()
+        ).orElse(0L));
     }
 
     @Override
-    public Page<GatheringListResponse> getHeartList(String email, Pageable pageable, String query, String location, String startDate, String endDate, String category, String sort, boolean available) {
+    public Page<GatheringInfo> getParticipatedGatherings(User participant, Pageable pageable) {
+
+        List<GatheringInfo> gatheringList = queryFactory
+                .select(buildGatheringInfoProjection())
+                .from(attendance)
+                .join(attendance.gathering, gathering)
+                .where(participatedCondition(participant))
+                .orderBy(toOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
 
-        return getHeartGatheringList(email, pageable, query, location, startDate, endDate, category, sort, available);
+        return PageableExecutionUtils.getPage(gatheringList, pageable, () -> countParticipatedGatherings(participant));
     }
 
-    // dueDate가 지난 모임의 isClosed 상태 업데이트
-    private void updateIsClosedStatus() {
+    // 후기 작성 여부는 NOT EXISTS 로 DB 에서 판단
+    @Override
+    public Page<ReviewableGatheringInfo> getReviewableGatherings(User participant, Pageable pageable) {
 
+        List<ReviewableGatheringInfo> gatheringList = queryFactory
+                .select(Projections.constructor(
+                        ReviewableGatheringInfo.class,
+                        gathering.id,
+                        gathering.groupName,
+                        gathering.category,
+                        gathering.location,
+                        gathering.gatheringImage,
+                        gathering.gatheringDate,
+                        gathering.maxUsers.longValue(),
+                        gathering.currentUsers.longValue(),
+                        gathering.createdAt,
+                        gathering.updatedAt
+                ))
+                .from(attendance)
+                .join(attendance.gathering, gathering)
+                .where(ReviewableGatheringCondition.of(participant))
+                .orderBy(toOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(gatheringList, pageable, () -> countReviewableGatherings(participant));
+    }
+
+    @Override
+    public long countParticipatedGatherings(User participant) {
+
+        return Optional.ofNullable(
+                queryFactory
+                        .select(attendance.count())
+                        .from(attendance)
+                        .join(attendance.gathering, gathering)
+                        .where(participatedCondition(participant))
+                        .fetchOne()
+        ).orElse(0L);
+    }
+
+    @Override
+    public long countReviewableGatherings(User participant) {
+
+        return Optional.ofNullable(
+                queryFactory
+                        .select(attendance.count())
+                        .from(attendance)
+                        .join(attendance.gathering, gathering)
+                        .where(ReviewableGatheringCondition.of(participant))
+                        .fetchOne()
+        ).orElse(0L);
+    }
+
+    @Override
+    public List<GatheringDueDate> findGatheringDueDates(LocalDateTime until) {
+
+        return queryFactory
+                .select(Projections.constructor(GatheringDueDate.class,
+                        gathering.id,
+                        gathering.dueDate))
+                .from(gathering)
+                .where(gathering.isClosed.eq(false)
+                        .and(gathering.dueDate.before(until)))
+                .fetch();
+    }
+
+    @Override
+    public long closeGatherings(List<Long> gatheringIds, LocalDateTime now) {
+
+        // 재생성으로 마감 기한이 연장된 모임은 dueDate 조건으로 걸러짐
         long updatedCount = queryFactory.update(gathering)
                 .set(gathering.isClosed, true)
-                .where(gathering.dueDate.before(LocalDateTime.now())
-                        .and(gathering.isClosed.eq(false)))
+                .where(gathering.id.in(gatheringIds)
+                        .and(gathering.isClosed.eq(false))
+                        .and(gathering.dueDate.loe(now)))
                 .execute();
 
         log.info("모임의 isClosed 상태가 {}번 업데이트되었습니다.", updatedCount);
+        return updatedCount;
     }
 
     // Gathering 목록 쿼리를 수행하고 필터를 적용하는 메서드
-    private Page<GatheringListResponse> getHeartGatheringList(String email, Pageable pageable, String query, String location, String startDate, String endDate, String category, String sort, boolean available) {
-
-        updateIsClosedStatus();
+    private Page<GatheringListResponse> getHeartGatheringList(String email, Set<Long> heartedGatheringIds, Pageable pageable, String query, String location, String startDate, String endDate, String category, String sort, boolean available) {
 
         JPAQuery<GatheringListResponse> queryBuilder = buildHeartGatheringQuery(email);
         applyFilters(queryBuilder, query, location, startDate, endDate, category, sort);
 
         // 참여 가능한 모임만 조회
         if (available) {
-            queryBuilder.where(gathering.maxUsers.gt(
-                    select(attendance.count())
-                            .from(attendance)
-                            .where(attendance.gathering.id.eq(gathering.id)
-                                    .and(attendance.deletedAt.isNull()))
-            ));
+            queryBuilder.where(gathering.maxUsers.gt(gathering.currentUsers));
         }
 
-        // dueDate 체크: 이 조건은 이미 상태 업데이트 로직에서 처리됨
+        // dueDate 체크: 마감 스케줄러가 isClosed 를 반영하기 전의 모임도 제외
         queryBuilder.where(gathering.dueDate.after(LocalDateTime.now()));
 
-        // 찜한 모임만 필터링
-        queryBuilder.where(heart.user.email.eq(email));
+        // 찜한 모임만 필터링 (회원별 좋아요 모임 집합 사용)
+        queryBuilder.where(gathering.id.in(heartedGatheringIds));
 
         return executePagedQuery(queryBuilder, pageable);
     }
@@ -83,7 +200,7 @@ public class GatheringQueryDslImpl implements GatheringQueryDsl {
     private void applyFilters(JPAQuery<GatheringListResponse> queryBuilder, String query, String location, String startDate, String endDate, String category, String sort) {
 
         if (StringUtils.hasText(query)) {
-            queryBuilder.where(gathering.groupName.contains(query));
+            queryBuilder.where(fullTextSearch.gatheringMatches(query));
         }
 
         if (StringUtils.hasText(location)) {
@@ -120,53 +237,73 @@ public class GatheringQueryDslImpl implements GatheringQueryDsl {
                         gathering.groupName,
                         gathering.category,
                         gathering.location,
-                        Expressions.as(
-                                select(image.filePath)
-                                        .from(image)
-                                        .where(image.gatheringId.eq(gathering.id)),
-                                "gatheringImage"
-                        ),
+                        gathering.gatheringImage,
                         gathering.gatheringDate,
                         gathering.dueDate,
                         gathering.maxUsers,
                         gathering.minUsers,
-                        Expressions.as(
-                                select(attendance.count())
-                                        .from(attendance)
-                                        .where(attendance.gathering.id.eq(gathering.id)
-                                                .and(attendance.deletedAt.isNull())),
-                                "currentUsers"
-                        ),
-                        Expressions.as(
-                                select(heart.count())
-                                        .from(heart)
-                                        .where(heart.gathering.id.eq(gathering.id)),
-                                "heartCounts"
-                        ),
+                        gathering.currentUsers,
+                        gathering.heartCount.as("heartCounts"),
                         gathering.isOpened,
                         gathering.isClosed,
                         gathering.createdAt,
                         gathering.updatedAt,
-                        gathering.deletedAt,
-                        Expressions.as(
-                                select(heart.count())
-                                        .from(heart)
-                                        .where(
-                                                heart.user.email.eq(email)
-                                                        .and(heart.gathering.id.eq(gathering.id))
-                                        ).gt(0L),
-                                "isHearted"
-                        )
+                        gathering.deletedAt
                 ))
                 .from(gathering)
                 .leftJoin(gathering.user, user)
-                .leftJoin(heart).on(heart.gathering.id.eq(gathering.id)
-                        .and(heart.user.email.eq(email)))
                 .where(gathering.isCanceled.eq(false)
                         .and(gathering.isClosed.eq(false)));
     }
 
 
+    // 취소되지 않은 모임 중 본인이 생성하지 않은 모임
+    private BooleanExpression participatedCondition(User participant) {
+
+        return attendance.user.eq(participant)
+                .and(attendance.deletedAt.isNull())
+                .and(gathering.isCanceled.eq(false))
+                .and(gathering.user.ne(participant));
+    }
+
+    // 이미지 경로와 참여 인원은 모임의 gatheringImage, currentUsers 사용
+    private ConstructorExpression<GatheringInfo> buildGatheringInfoProjection() {
+
+        return Projections.constructor(
+                GatheringInfo.class,
+                gathering.id,
+                gathering.groupName,
+                gathering.category,
+                gathering.location,
+                gathering.gatheringImage,
+                gathering.gatheringDate,
+                gathering.dueDate,
+                gathering.maxUsers,
+                gathering.currentUsers,
+                gathering.isOpened,
+                gathering.isCanceled,
+                gathering.isClosed,
+                gathering.createdAt,
+                gathering.updatedAt,
+                gathering.deletedAt
+        );
+    }
+
+    // Pageable 의 정렬 조건을 모임 필드 기준으로 변환 (같은 값이면 id 내림차순)
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] toOrderSpecifiers(Sort sort) {
+
+        PathBuilder<Gathering> gatheringPath = new PathBuilder<>(Gathering.class, gathering.getMetadata());
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orderSpecifiers.add(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC,
+                    gatheringPath.getComparable(order.getProperty(), Comparable.class)));
+        }
+        orderSpecifiers.add(gathering.id.desc());
+
+        return orderSpecifiers.toArray(OrderSpecifier[]::new);
+    }
+
     // 페이징 처리된 쿼리 결과를 실행하는 메서드
     private Page<GatheringListResponse> executePagedQuery(JPAQuery<GatheringListResponse> queryBuilder, Pageable pageable) {
 
@@ -0,0 +1,24 @@
+package com.manchui.domain.repository.querydsl;
+
+import com.manchui.domain.dto.User.WrittenReviewInfo;
+import com.manchui.domain.dto.review.ReviewDetailInfo;
+import com.manchui.domain.dto.review.ReviewInfo;
+import com.manchui.domain.entity.User;
+
+import java.util.List;
+
+public interface ReviewCursorQueryDsl {
+
+    // 전체 후기 목록 조회 (커서 기반 페이징)
+    List<ReviewDetailInfo> getReviewDetailInfoByCursor(String cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, int score);
+
+    // 전체 후기 목록 전체 개수 조회
+    long countReviewDetailInfo(String query, String location, String startDate, String endDate, String category, int score);
+
+    // 모임 상세 후기 목록 조회 (커서 기반 페이징)
+    List<ReviewInfo> getReviewInfoListByCursor(Long gatheringId, String cursor, int size);
+
+    // 회원이 작성한 후기 목록 조회 (커서 기반 페이징)
+    List<WrittenReviewInfo> getWrittenReviewsByCursor(User writer, String cursor, int size);
+
+}
@@ -0,0 +1,225 @@
+package com.manchui.domain.repository.querydsl;
+
+import com.manchui.domain.dto.KeysetCursor;
+import com.manchui.domain.dto.User.WrittenReviewInfo;
+import com.manchui.domain.dto.review.ReviewDetailInfo;
+import com.manchui.domain.dto.review.ReviewInfo;
+import com.manchui.domain.entity.User;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.manchui.domain.entity.QGathering.gathering;
+import static com.manchui.domain.entity.QReview.review;
+import static com.manchui.domain.entity.QUser.user;
+
+@Slf4j
+public class ReviewCursorQueryDslImpl implements ReviewCursorQueryDsl {
+
+    private final JPAQueryFactory queryFactory;
+
+    private final FullTextSearch fullTextSearch;
+
+    public ReviewCursorQueryDslImpl(EntityManager em, FullTextSearch fullTextSearch) {
+
+        this.queryFactory = new JPAQueryFactory(em);
+        this.fullTextSearch = fullTextSearch;
+    }
+
+    @Override
+    public List<ReviewDetailInfo> getReviewDetailInfoByCursor(String cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, int score) {
+
+        log.info("전체 후기 목록 커서 조회 쿼리 실행");
+
+        BooleanBuilder listConditions = buildFilterConditions(query, location, startDate, endDate, category, score);
+
+        // 정렬 기준: 평점 높은 순 (score, id) 내림차순, 평점 낮은 순 (score, id) 오름차순, 기본 (createdAt, id) 내림차순
+        OrderSpecifier<?>[] orderSpecifiers;
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        if ("ratingDesc".equals(sort)) {
+            if (keysetCursor != null) listConditions.and(beforeScoreCursor(keysetCursor));
+            orderSpecifiers = new OrderSpecifier<?>[]{review.score.desc(), review.id.desc()};
+        } else if ("ratingAsc".equals(sort)) {
+            if (keysetCursor != null) listConditions.and(afterScoreCursor(keysetCursor));
+            orderSpecifiers = new OrderSpecifier<?>[]{review.score.asc(), review.id.asc()};
+        } else {
+            if (keysetCursor != null) listConditions.and(beforeCreatedAtCursor(keysetCursor));
+            orderSpecifiers = new OrderSpecifier<?>[]{review.createdAt.desc(), review.id.desc()};
+        }
+
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ReviewDetailInfo.class,
+                                gathering.id,
+                                gathering.groupName,
+                                gathering.gatheringImage,
+                                gathering.category,
+                                gathering.location,
+                                user.name,
+                                user.profileImagePath,
+                                review.id,
+                                review.score,
+                                review.comment,
+                                review.createdAt,
+                                review.updatedAt
+                        )
+                )
+                .from(review)
+                .leftJoin(review.gathering, gathering)
+                .leftJoin(review.user, user)
+                .where(listConditions)
+                .orderBy(orderSpecifiers)
+                .limit(size)
+                .fetch();
+    }
+
+    // 전체 개수 조회 쿼리 (커서 조건 제외)
+    @Override
+    public long countReviewDetailInfo(String query, String location, String startDate, String endDate, String category, int score) {
+
+        return Optional.ofNullable(
+                queryFactory
+                        .select(review.count())
+                        .from(review)
+                        .leftJoin(review.gathering, gathering)
+                        .where(buildFilterConditions(query, location, startDate, endDate, category, score))
+                        .fetchOne()
+        ).orElse(0L);
+    }
+
+    @Override
+    public List<ReviewInfo> getReviewInfoListByCursor(Long gatheringId, String cursor, int size) {
+
+        BooleanBuilder conditions = new BooleanBuilder()
+                .and(review.gathering.id.eq(gatheringId))
+                .and(review.deletedAt.isNull());
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        if (keysetCursor != null) {
+            conditions.and(beforeCreatedAtCursor(keysetCursor));
+        }
+
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ReviewInfo.class,
+                                review.id,
+                                user.name,
+                                user.profileImagePath,
+                                review.score,
+                                review.comment,
+                                review.createdAt,
+                                review.updatedAt
+                        )
+                )
+                .from(review)
+                .leftJoin(review.user, user)
+                .where(conditions)
+                .orderBy(review.createdAt.desc(), review.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    // (createdAt, 후기 id) 를 커서로 사용
+    @Override
+    public List<WrittenReviewInfo> getWrittenReviewsByCursor(User writer, String cursor, int size) {
+
+        BooleanBuilder conditions = new BooleanBuilder()
+                .and(review.user.eq(writer))
+                .and(review.deletedAt.isNull());
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        if (keysetCursor != null) {
+            conditions.and(beforeCreatedAtCursor(keysetCursor));
+        }
+
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                WrittenReviewInfo.class,
+                                gathering.id,
+                                review.score.longValue(),
+                                gathering.groupName,
+                                gathering.category,
+                                gathering.location,
+                                review.comment,
+                                gathering.gatheringImage,
+                                gathering.gatheringDate,
+                                review.createdAt,
+                                review.updatedAt,
+                                review.id
+                        )
+                )
+                .from(review)
+                .join(review.gathering, gathering)
+                .where(conditions)
+                .orderBy(review.createdAt.desc(), review.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    // (createdAt, id) 내림차순 기준 커서 이후의 후기
+    private BooleanExpression beforeCreatedAtCursor(KeysetCursor cursor) {
+
+        LocalDateTime createdAt = cursor.getDateTimeKey();
+        return review.createdAt.lt(createdAt)
+                .or(review.createdAt.eq(createdAt).and(review.id.lt(cursor.getId())));
+    }
+
+    // (score, id) 내림차순 기준 커서 이후의 후기
+    private BooleanExpression beforeScoreCursor(KeysetCursor cursor) {
+
+        int score = cursor.getIntKey();
+        return review.score.lt(score)
+                .or(review.score.eq(score).and(review.id.lt(cursor.getId())));
+    }
+
+    // (score, id) 오름차순 기준 커서 이후의 후기
+    private BooleanExpression afterScoreCursor(KeysetCursor cursor) {
+
+        int score = cursor.getIntKey();
+        return review.score.gt(score)
+                .or(review.score.eq(score).and(review.id.gt(cursor.getId())));
+    }
+
+    // 필터링 조건 (삭제된 후기 제외)
+    private BooleanBuilder buildFilterConditions(String query, String location, String startDate, String endDate, String category, int score) {
+
+        BooleanBuilder builder = new BooleanBuilder(review.deletedAt.isNull());
+
+        if (query != null && !query.isEmpty()) {
+            builder.and(fullTextSearch.reviewMatches(query));
+        }
+
+        if (location != null && !location.isEmpty()) {
+            builder.and(gathering.location.contains(location));
+        }
+
+        if (startDate != null && !startDate.isEmpty() && endDate != null && !endDate.isEmpty()) {
+            LocalDate start = LocalDate.parse(startDate);
+            LocalDate end = LocalDate.parse(endDate);
+            builder.and(review.createdAt.between(start.atStartOfDay(), end.atTime(23, 59, 59)));
+        }
+
+        if (category != null && !category.isEmpty()) {
+            builder.and(gathering.category.eq(category));
+        }
+
+        if (score != -1) {
+            builder.and(review.score.eq(score));
+        }
+
+        return builder;
+    }
+
+}
@@ -1,19 +1,22 @@
 package com.manchui.domain.repository.querydsl;
 
+import com.manchui.domain.dto.User.WrittenReviewInfo;
 import com.manchui.domain.dto.review.ReviewDetailInfo;
 import com.manchui.domain.dto.review.ReviewInfo;
 import com.manchui.domain.dto.review.ReviewScoreInfo;
+import com.manchui.domain.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface ReviewQueryDsl {
 
-    ReviewScoreInfo getScoreStatisticsByGathering(Long gatheringId);
-
     ReviewScoreInfo getScoreStatistics(String query, String location, String category, String startDate, String endDate, int score);
 
-    Page<ReviewInfo> getReviewInfoList(Pageable pageable, Long gatheringId);
+    Page<ReviewInfo> getReviewInfoList(Pageable pageable, Long gatheringId, long reviewCount);
 
     Page<ReviewDetailInfo> getReviewDetailInfo(Pageable pageable, String query, String location, String startDate, String endDate, String category, String sort, int score);
 
+    // 회원이 작성한 후기 목록 조회
+    Page<WrittenReviewInfo> getWrittenReviews(User writer, Pageable pageable);
+
 }
@@ -1,11 +1,19 @@
 package com.manchui.domain.repository.querydsl;
 
+import com.manchui.domain.dto.User.WrittenReviewInfo;
 import com.manchui.domain.dto.review.ReviewDetailInfo;
 import com.manchui.domain.dto.review.ReviewInfo;
 import com.manchui.domain.dto.review.ReviewScoreInfo;
+import com.manchui.domain.entity.Review;
+import com.manchui.domain.entity.User;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
@@ -13,81 +21,41 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static com.manchui.domain.entity.QGathering.gathering;
-import static com.manchui.domain.entity.QImage.image;
 import static com.manchui.domain.entity.QReview.review;
+import static com.manchui.domain.entity.QReviewScoreRollup.reviewScoreRollup;
 import static com.manchui.domain.entity.QUser.user;
-import static com.querydsl.jpa.JPAExpressions.select;
 
 @Slf4j
 public class ReviewQueryDslImpl implements ReviewQueryDsl {
 
     private final JPAQueryFactory queryFactory;
 
-    public ReviewQueryDslImpl(EntityManager em) {
+    private final FullTextSearch fullTextSearch;
 
-        this.queryFactory = new JPAQueryFactory(em);
-    }
-
-    // 점수 통계 가져오는 메서드
-    public ReviewScoreInfo getScoreStatisticsByGathering(Long gatheringId) {
-
-        // 평균 점수 계산
-        Double avgScore = queryFactory
-                .select(review.score.avg())
-                .from(review)
-                .where(review.gathering.id.eq(gatheringId))
-                .fetchOne();
+    public ReviewQueryDslImpl(EntityManager em, FullTextSearch fullTextSearch) {
 
-        double averageScore = Optional.ofNullable(avgScore).orElse(0.0);
-
-        // 각 점수별 카운트 계산
-        long fiveScoreCount = Optional.ofNullable(queryFactory
-                .select(review.count())
-                .from(review)
-                .where(review.gathering.id.eq(gatheringId).and(review.score.eq(5)))
-                .fetchOne()).orElse(0L);
-
-        long fourScoreCount = Optional.ofNullable(queryFactory
-                .select(review.count())
-                .from(review)
-                .where(review.gathering.id.eq(gatheringId).and(review.score.eq(4)))
-                .fetchOne()).orElse(0L);
-
-        long threeScoreCount = Optional.ofNullable(queryFactory
-                .select(review.count())
-                .from(review)
-                .where(review.gathering.id.eq(gatheringId).and(review.score.eq(3)))
-                .fetchOne()).orElse(0L);
-
-        long twoScoreCount = Optional.ofNullable(queryFactory
-                .select(review.count())
-                .from(review)
-                .where(review.gathering.id.eq(gatheringId).and(review.score.eq(2)))
-                .fetchOne()).orElse(0L);
-
-        long oneScoreCount = Optional.ofNullable(queryFactory
-                .select(review.count())
-                .from(review)
-                .where(review.gathering.id.eq(gatheringId).and(review.score.eq(1)))
-                .fetchOne()).orElse(0L);
-
-        return new ReviewScoreInfo(averageScore, fiveScoreCount, fourScoreCount, threeScoreCount, twoScoreCount, oneScoreCount);
+        this.queryFactory = new JPAQueryFactory(em);
+        this.fullTextSearch = fullTextSearch;
     }
 
-    // ReviewInfo 리스트를 가져오는 메서드
+    // ReviewInfo 리스트를 가져오는 메서드 (전체 개수는 평점 집계의 후기 수를 사용하므로 count 쿼리 없음)
     @Override
-    public Page<ReviewInfo> getReviewInfoList(Pageable pageable, Long gatheringId) {
+    public Page<ReviewInfo> getReviewInfoList(Pageable pageable, Long gatheringId, long reviewCount) {
 
         List<ReviewInfo> reviewInfoList = queryFactory
                 .select(
                         Projections.constructor(
                                 ReviewInfo.class,
+                                review.id,
                                 user.name,
                                 user.profileImagePath,
                                 review.score,
@@ -98,72 +66,119 @@ public class ReviewQueryDslImpl implements ReviewQueryDsl {
                 )
                 .from(review)
                 .leftJoin(review.user, user)
-                .where(review.gathering.id.eq(gatheringId))
+                .where(review.gathering.id.eq(gatheringId),
+                        review.deletedAt.isNull())
                 .limit(pageable.getPageSize())
                 .offset(pageable.getOffset())
                 .fetch();
 
-        long total = Optional.ofNullable(
-                queryFactory
-                        .select(review.count())
-                        .from(review)
-                        .where(review.gathering.id.eq(gatheringId))
-                        .fetchOne()
-        ).orElse(0L);
-
-        return new PageImpl<>(reviewInfoList, pageable, total);
+        return PageableExecutionUtils.getPage(reviewInfoList, pageable, () -> reviewCount);
     }
 
-    // 전체 후기 조회 시 점수 통계 가져오는 메서드
+    // 전체 후기 조회 시 점수 통계 가져오는 메서드 (검색어가 없으면 집계 테이블 사용)
     @Override
     public ReviewScoreInfo getScoreStatistics(String query, String location, String category, String startDate, String endDate, int score) {
 
+        if (query == null || query.isEmpty()) {
+            return getScoreStatisticsFromRollup(location, category, startDate, endDate, score);
+        }
+
         BooleanBuilder builder = new BooleanBuilder();
 
         // 조건에 맞는 필터링 추가
         applyFiltersForStatistics(builder, query, location, startDate, endDate, category, score);
 
-        // 평균 점수 계산
-        Double avgScore = queryFactory
-                .select(review.score.avg())
+        // 평균 점수와 점수별 개수를 한 번에 계산
+        Tuple result = queryFactory
+                .select(review.score.avg(),
+                        scoreCountOf(5),
+                        scoreCountOf(4),
+                        scoreCountOf(3),
+                        scoreCountOf(2),
+                        scoreCountOf(1))
                 .from(review)
-                .where(builder)  // 조건이 없으면 전체 점수 평균을 계산
+                .leftJoin(review.gathering, gathering)
+                .where(builder)
                 .fetchOne();
 
-        double averageScore = Optional.ofNullable(avgScore).orElse(0.0);
-        log.info("후기 목록 조회 시 계산된 평균 점수 : {}", averageScore);
+        if (result == null) return new ReviewScoreInfo(0.0, 0L, 0L, 0L, 0L, 0L);
 
-        // 각 점수별 카운트 계산
-        long fiveScoreCount = countScore(builder, 5);
-        long fourScoreCount = countScore(builder, 4);
-        long threeScoreCount = countScore(builder, 3);
-        long twoScoreCount = countScore(builder, 2);
-        long oneScoreCount = countScore(builder, 1);
+        double averageScore = Optional.ofNullable(result.get(0, Double.class)).orElse(0.0);
+        log.info("후기 목록 조회 시 계산된 평균 점수 : {}", averageScore);
 
         // 점수 통계 정보를 포함한 ReviewScoreInfo 객체 반환
-        return new ReviewScoreInfo(averageScore, fiveScoreCount, fourScoreCount, threeScoreCount, twoScoreCount, oneScoreCount);
+        return new ReviewScoreInfo(averageScore,
+                Optional.ofNullable(result.get(1, Long.class)).orElse(0L),
+                Optional.ofNullable(result.get(2, Long.class)).orElse(0L),
+                Optional.ofNullable(result.get(3, Long.class)).orElse(0L),
+                Optional.ofNullable(result.get(4, Long.class)).orElse(0L),
+                Optional.ofNullable(result.get(5, Long.class)).orElse(0L));
     }
 
-    // 점수 카운트를 위한 메서드
-    private long countScore(BooleanBuilder builder, int score) {
-
-        Long count = queryFactory
-                .select(review.count())
-                .from(review)
-                .where(builder) // 필터 조건을 먼저 적용
-                .where(review.score.eq(score)) // 점수 조건을 별도로 추가
-                .fetchOne();
+    // 해당 점수인 후기의 개수
+    private NumberExpression<Long> scoreCountOf(int score) {
 
-        return Optional.ofNullable(count).orElse(0L);
+        return new CaseBuilder()
+                .when(review.score.eq(score)).then(1L)
+                .otherwise(0L)
+                .sum();
     }
 
+    // (카테고리, 모임 장소, 후기 작성일, 평점) 집계 행을 합산해 점수 통계 계산
+    private ReviewScoreInfo getScoreStatisticsFromRollup(String location, String category, String startDate, String endDate, int score) {
+
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (location != null && !location.isEmpty()) {
+            builder.and(reviewScoreRollup.location.eq(location));
+        }
+
+        if (category != null && !category.isEmpty()) {
+            builder.and(reviewScoreRollup.category.eq(category));
+        }
+
+        if (startDate != null && !startDate.isEmpty() && endDate != null && !endDate.isEmpty()) {
+            builder.and(reviewScoreRollup.reviewDate.between(LocalDate.parse(startDate), LocalDate.parse(endDate)));
+        }
+
+        if (score != -1) {
+            builder.and(reviewScoreRollup.score.eq(score));
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(reviewScoreRollup.score, reviewScoreRollup.reviewCount.sum())
+                .from(reviewScoreRollup)
+                .where(builder)
+                .groupBy(reviewScoreRollup.score)
+                .fetch();
+
+        // 인덱스 = 평점
+        long[] scoreCounts = new long[6];
+        long totalCount = 0;
+        long scoreSum = 0;
+        for (Tuple row : rows) {
+            int rowScore = Optional.ofNullable(row.get(reviewScoreRollup.score)).orElse(0);
+            long count = Optional.ofNullable(row.get(reviewScoreRollup.reviewCount.sum())).orElse(0L);
+            if (rowScore < 1 || rowScore > 5 || count <= 0) continue;
+
+            scoreCounts[rowScore] = count;
+            totalCount += count;
+            scoreSum += (long) rowScore * count;
+        }
+
+        double averageScore = totalCount == 0 ? 0.0 : (double) scoreSum / totalCount;
+        log.info("후기 목록 조회 시 집계 테이블로 계산된 평균 점수 : {}", averageScore);
+
+        return new ReviewScoreInfo(averageScore, scoreCounts[5], scoreCounts[4], scoreCounts[3], scoreCounts[2], scoreCounts[1]);
+    }
 
-    // 필터링 조건을 적용하는 메서드 (통계 전용)
+    // 필터링 조건을 적용하는 메서드 (통계 전용, 삭제된 후기 제외)
     private void applyFiltersForStatistics(BooleanBuilder builder, String query, String location, String startDate, String endDate, String category, Integer score) {
 
+        builder.and(review.deletedAt.isNull());
+
         if (query != null && !query.isEmpty()) {
-            builder.and(review.comment.contains(query)
-                    .or(gathering.groupName.contains(query)));
+            builder.and(fullTextSearch.reviewMatches(query));
         }
 
         if (location != null && !location.isEmpty()) {
@@ -195,12 +210,7 @@ public class ReviewQueryDslImpl implements ReviewQueryDsl {
                                 ReviewDetailInfo.class,
                                 gathering.id,
                                 gathering.groupName,
-                                Expressions.as(
-                                        select(image.filePath)
-                                                .from(image)
-                                                .where(image.gatheringId.eq(gathering.id)),
-                                        "gatheringImage"
-                                ),
+                                gathering.gatheringImage,
                                 gathering.category,
                                 gathering.location,
                                 user.name,
@@ -231,7 +241,7 @@ public class ReviewQueryDslImpl implements ReviewQueryDsl {
                         .from(review)
                         .leftJoin(review.gathering, gathering)
                         .leftJoin(review.user, user)
-                        .where(applyFiltersForTotalCount(query, location, startDate, endDate, category)) // 필터를 적용한 메서드 호출
+                        .where(applyFiltersForTotalCount(query, location, startDate, endDate, category, score)) // 필터를 적용한 메서드 호출
                         .fetchOne()
         ).orElse(0L);
 
@@ -239,14 +249,68 @@ public class ReviewQueryDslImpl implements ReviewQueryDsl {
 
     }
 
-    // 필터링된 총 개수를 위한 메서드
-    private BooleanBuilder applyFiltersForTotalCount(String query, String location, String startDate, String endDate, String category) {
+    // 이미지 경로는 모임의 gatheringImage 사용
+    @Override
+    public Page<WrittenReviewInfo> getWrittenReviews(User writer, Pageable pageable) {
+
+        List<WrittenReviewInfo> writtenReviewList = queryFactory
+                .select(
+                        Projections.constructor(
+                                WrittenReviewInfo.class,
+                                gathering.id,
+                                review.score.longValue(),
+                                gathering.groupName,
+                                gathering.category,
+                                gathering.location,
+                                review.comment,
+                                gathering.gatheringImage,
+                                gathering.gatheringDate,
+                                review.createdAt,
+                                review.updatedAt,
+                                review.id
+                        )
+                )
+                .from(review)
+                .join(review.gathering, gathering)
+                .where(review.user.eq(writer))
+                .orderBy(toOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(writtenReviewList, pageable, () -> Optional.ofNullable(
+                queryFactory
+                        .select(review.count())
+                        .from(review)
+                        .where(review.user.eq(writer))
+                        .fetchOne()
+        ).orElse(0L));
+    }
+
+    // Pageable 의 정렬 조건을 후기 필드 기준으로 변환 (같은 값이면 id 내림차순)
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] toOrderSpecifiers(Sort sort) {
+
+        PathBuilder<Review> reviewPath = new PathBuilder<>(Review.class, review.getMetadata());
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orderSpecifiers.add(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC,
+                    reviewPath.getComparable(order.getProperty(), Comparable.class)));
+        }
+        orderSpecifiers.add(review.id.desc());
+
+        return orderSpecifiers.toArray(OrderSpecifier[]::new);
+    }
+
+    // 필터링된 총 개수를 위한 메서드 (목록과 같은 조건, 삭제된 후기 제외)
+    private BooleanBuilder applyFiltersForTotalCount(String query, String location, String startDate, String endDate, String category, int score) {
 
         BooleanBuilder builder = new BooleanBuilder();
 
+        builder.and(review.deletedAt.isNull());
+
         if (query != null && !query.isEmpty()) {
-            builder.and(review.comment.contains(query)
-                    .or(gathering.groupName.contains(query)));
+            builder.and(fullTextSearch.reviewMatches(query));
         }
 
         if (location != null && !location.isEmpty()) {
@@ -263,15 +327,20 @@ public class ReviewQueryDslImpl implements ReviewQueryDsl {
             builder.and(gathering.category.eq(category));
         }
 
+        if (score != -1) {
+            builder.and(review.score.eq(score));
+        }
+
         return builder;
     }
 
-    // 필터링 적용
+    // 필터링 적용 (삭제된 후기 제외)
     private void applyFilters(JPAQuery<ReviewDetailInfo> queryBuilder, String query, String location, String startDate, String endDate, String category, String sort, Integer score) {
 
+        queryBuilder.where(review.deletedAt.isNull());
+
         if (query != null && !query.isEmpty()) {
-            queryBuilder.where(review.comment.contains(query)
-                    .or(gathering.groupName.contains(query)));
+            queryBuilder.where(fullTextSearch.reviewMatches(query));
         }
 
         if (location != null && !location.isEmpty()) {
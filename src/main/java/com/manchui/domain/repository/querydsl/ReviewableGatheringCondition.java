@@ -0,0 +1,36 @@
+package com.manchui.domain.repository.querydsl;
+
+import com.manchui.domain.entity.User;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+
+import java.time.LocalDateTime;
+
+import static com.manchui.domain.entity.QAttendance.attendance;
+import static com.manchui.domain.entity.QGathering.gathering;
+import static com.manchui.domain.entity.QReview.review;
+
+// 후기 작성 가능한 모임 조건 (attendance 에 gathering 을 join 한 쿼리에서 사용)
+final class ReviewableGatheringCondition {
+
+    private ReviewableGatheringCondition() {
+    }
+
+    // 참여한 모임 중 취소/삭제되지 않았고 모임 날짜가 지났으며, 삭제되지 않은 후기가 없는 모임
+    static BooleanExpression of(User participant) {
+
+        return attendance.user.eq(participant)
+                .and(attendance.deletedAt.isNull())
+                .and(gathering.isCanceled.eq(false))
+                .and(gathering.deletedAt.isNull())
+                .and(gathering.gatheringDate.before(LocalDateTime.now()))
+                .and(JPAExpressions
+                        .selectOne()
+                        .from(review)
+                        .where(review.user.eq(participant)
+                                .and(review.gathering.eq(gathering))
+                                .and(review.deletedAt.isNull()))
+                        .notExists());
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.manchui.domain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 access 토큰(jti) 목록
+ * 로그아웃, 재발급으로 폐기된 토큰의 jti 만 토큰 만료 시각까지 Redis 에 보관한다. (revoked:{jti} + 만료 시각 순 zset)
+ * 로컬 Bloom filter 가 "폐기되지 않음"을 판단하면 Redis 조회 없이 통과시키고, 폐기되었을 수도 있는 경우에만 Redis 를 확인한다.
+ * Bloom filter 는 pub/sub 로 즉시 반영하고, 메시지 유실에 대비해 zset 에서 주기적으로 다시 만든다.
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist implements MessageListener {
+
+    public static final String REVOCATION_CHANNEL = "token:access:revoked";
+
+    private static final String REVOKED_KEY_PREFIX = "revoked:";
+
+    private static final String REVOKED_INDEX_KEY = "token:revoked";
+
+    // 폐기 키 저장, 만료 시각 순 인덱스 추가, 다른 인스턴스에 폐기 전파
+    // KEYS: revoked:{jti}, 인덱스 zset / ARGV: TTL(ms), 만료 시각(ms), jti, 채널
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('set', KEYS[1], '1', 'PX', ARGV[1]) " +
+            "redis.call('zadd', KEYS[2], ARGV[2], ARGV[3]) " +
+            "redis.call('publish', ARGV[4], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final int expectedRevocations;
+
+    private final double falsePositiveRate;
+
+    private final boolean enabled;
+
+    private volatile BloomFilter bloomFilter;
+
+    // 재생성 중인 필터 (재생성 중에 들어온 폐기도 놓치지 않도록 함께 추가)
+    private volatile BloomFilter rebuilding;
+
+    public AccessTokenDenylist(RedisTemplate<String, String> redisTemplate,
+                               @Value("${token.revocation.expected-revocations}") int expectedRevocations,
+                               @Value("${token.revocation.false-positive-rate}") double falsePositiveRate,
+                               @Value("${token.revocation.mode}") RedisRefreshTokenService.RevocationMode mode) {
+
+        this.redisTemplate = redisTemplate;
+        this.enabled = mode == RedisRefreshTokenService.RevocationMode.DENYLIST;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    public void revoke(String jti, long expiresAtMs) {
+
+        long ttlMs = expiresAtMs - System.currentTimeMillis();
+        if (ttlMs <= 0) return;
+
+        redisTemplate.execute(REVOKE_SCRIPT, List.of(REVOKED_KEY_PREFIX + jti, REVOKED_INDEX_KEY),
+                String.valueOf(ttlMs), String.valueOf(expiresAtMs), jti, REVOCATION_CHANNEL);
+        addLocal(jti);
+    }
+
+    public boolean isRevoked(String jti) {
+
+        if (!bloomFilter.mightContain(jti)) return false;
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY_PREFIX + jti));
+        } catch (RuntimeException e) {
+            // 폐기되었을 수도 있는 토큰이므로 확인할 수 없으면 거부
+            log.warn("폐기 토큰 확인에 실패했습니다. 요청을 거부합니다.", e);
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // Redis 반영 이후에 호출해야 재생성과 겹쳐도 유실되지 않음
+    private void addLocal(String jti) {
+
+        BloomFilter next = rebuilding;
+        if (next != null) next.put(jti);
+        bloomFilter.put(jti);
+    }
+
+    // 만료된 항목을 정리하고 남은 jti 로 Bloom filter 재생성 (Bloom filter 는 삭제를 지원하지 않으므로)
+    @Scheduled(fixedDelayString = "${token.revocation.refresh-ms}")
+    public void refresh() {
+
+        if (!enabled) return;
+
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_INDEX_KEY, 0, now);
+            Long size = redisTemplate.opsForZSet().zCard(REVOKED_INDEX_KEY);
+
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, size == null ? 0 : size.intValue()), falsePositiveRate);
+            rebuilding = rebuilt;
+
+            Set<String> revoked = redisTemplate.opsForZSet().rangeByScore(REVOKED_INDEX_KEY, now, Double.POSITIVE_INFINITY);
+            if (revoked != null) revoked.forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+        } catch (RuntimeException e) {
+            log.warn("폐기 토큰 Bloom filter 갱신에 실패했습니다. 기존 필터를 유지합니다.", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    // 여러 스레드에서 동시에 추가할 수 있는 고정 크기 Bloom filter
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+
+        private final long bitSize;
+
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+
+            expectedInsertions = Math.max(1, expectedInsertions);
+            long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitSize = Math.max(64, size);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        }
+
+        void put(String value) {
+
+            long hash = hash(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                long mask = 1L << index;
+                int slot = (int) (index >>> 6);
+                long current;
+                do {
+                    current = bits.get(slot);
+                    if ((current & mask) != 0) break;
+                } while (!bits.compareAndSet(slot, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+
+            long hash = hash(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitSize);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+            }
+            return true;
+        }
+
+        // 64-bit FNV-1a
+        private static long hash(String value) {
+
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.manchui.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * access 토큰 near cache
+ * JWT 필터가 매 요청마다 Redis 에 HGET 을 보내지 않도록 유효했던 세션 access 값(digest:만료시각)만 짧은 TTL 로 메모리에 보관한다.
+ * 로그아웃, 재발급으로 토큰이 바뀌면 Redis pub/sub 채널로 모든 인스턴스(blue/green)에 무효화를 전파한다.
+ * Redis 조회 도중 무효화가 들어오면 조회한 값이 이미 폐기된 값일 수 있으므로, 무효화 세대가 바뀐 경우에는 적재하지 않는다.
+ */
+@Slf4j
+@Component
+public class AccessTokenNearCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "token:access:invalidate";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final boolean enabled;
+
+    private final Cache<String, String> accessTokens;
+
+    // 무효화될 때마다 증가하는 세대 (조회 시작 이후 무효화 여부 확인용)
+    private final AtomicLong generation = new AtomicLong();
+
+    public AccessTokenNearCache(RedisTemplate<String, String> redisTemplate,
+                                @Value("${token.near-cache.enabled}") boolean enabled,
+                                @Value("${token.near-cache.ttl-ms}") long ttlMs,
+                                @Value("${token.near-cache.max-size}") long maxSize) {
+
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.accessTokens = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public String get(String userEmail) {
+
+        return enabled ? accessTokens.getIfPresent(userEmail) : null;
+    }
+
+    // Redis 조회 전에 현재 세대를 기록해 두고 put 에 전달
+    public long generation() {
+
+        return generation.get();
+    }
+
+    // 조회를 시작한 이후 무효화가 있었으면 적재하지 않음
+    public void put(String userEmail, String sessionValue, long lookupGeneration) {
+
+        if (!enabled || generation.get() != lookupGeneration) return;
+
+        accessTokens.put(userEmail, sessionValue);
+
+        // 확인과 적재 사이에 무효화가 끼어든 경우 방금 적재한 값을 다시 제거
+        if (generation.get() != lookupGeneration) accessTokens.invalidate(userEmail);
+    }
+
+    // 현재 인스턴스에서만 제거 (무효화 메시지는 Lua 스크립트 등에서 이미 발행한 경우)
+    public void evictLocal(String userEmail) {
+
+        generation.incrementAndGet();
+        accessTokens.invalidate(userEmail);
+    }
+
+    // 현재 인스턴스에서 바로 제거하고 다른 인스턴스에도 무효화 전파
+    public void invalidate(String userEmail) {
+
+        evictLocal(userEmail);
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, userEmail);
+        } catch (RuntimeException e) {
+            log.warn("access 토큰 near cache 무효화 메시지를 발행하지 못했습니다. (TTL 이후 만료)", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+}
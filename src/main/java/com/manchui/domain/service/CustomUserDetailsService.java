@@ -2,7 +2,6 @@ package com.manchui.domain.service;
 
 import com.manchui.domain.dto.CustomUserDetails;
 import com.manchui.domain.entity.User;
-import com.manchui.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -13,12 +12,12 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
-        User findUser = userRepository.findByEmail(email);
+        User findUser = userCache.findByEmail(email);
 
         if (findUser != null) {
             return new CustomUserDetails(findUser);
@@ -0,0 +1,214 @@
+package com.manchui.domain.service;
+
+import com.manchui.domain.dto.gathering.GatheringDueDate;
+import com.manchui.domain.event.GatheringChangedEvent;
+import com.manchui.domain.repository.GatheringRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import static com.manchui.domain.event.GatheringChangedEvent.ChangeType.REMOVED;
+
+/**
+ * 모집 마감 기한(dueDate)이 지난 모임의 isClosed 상태를 변경하는 스케줄러
+ * 마감 예정 모임을 dueDate 순으로 메모리에 정렬해 두고, 기한이 도래한 모임만 batch 단위로 마감 처리한다.
+ * blue/green 컨테이너가 동시에 떠 있는 경우에도 Redis lease 를 가진 인스턴스 하나만 마감 처리를 수행한다.
+ * 새로 생성/재생성된 모임은 커밋 이후 Redis zset(gathering:close:pending, 점수는 dueDate)에 등록해,
+ * 어느 인스턴스에서 생성되었든 lease 보유자가 기한이 도래한 모임을 바로 가져가 마감한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GatheringCloseScheduler {
+
+    private static final String LEASE_KEY = "gathering:close:lease";
+
+    private static final String PENDING_KEY = "gathering:close:pending";
+
+    // lease 보유자인 경우에만 만료 시간 연장
+    private static final RedisScript<Long> RENEW_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    // 기한이 도래한 모임 id 를 최대 ARGV[2]개 꺼내고 zset 에서 제거
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_DUE_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+                    "if #ids > 0 then redis.call('zrem', KEYS[1], unpack(ids)) end " +
+                    "return ids",
+            List.class);
+
+    private final GatheringRepository gatheringRepository;
+
+    private final GatheringStore gatheringStore;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // dueDate, 모임 id 순으로 정렬된 마감 대기열
+    private final ConcurrentSkipListSet<CloseTask> closeQueue = new ConcurrentSkipListSet<>(
+            Comparator.comparing(CloseTask::dueDate).thenComparing(CloseTask::gatheringId));
+
+    private volatile boolean leader = false;
+
+    @Value("${gathering.close.batch-size}")
+    private int batchSize;
+
+    @Value("${gathering.close.lease-ttl-ms}")
+    private long leaseTtlMs;
+
+    @Value("${gathering.close.preload-hours}")
+    private long preloadHours;
+
+    // 모임 생성 및 재생성 시 커밋 이후 Redis 마감 대기열에 등록 (롤백된 모임은 등록되지 않음)
+    public void schedule(Long gatheringId, LocalDateTime dueDate) {
+
+        Runnable task = () -> {
+            try {
+                redisTemplate.opsForZSet().add(PENDING_KEY, String.valueOf(gatheringId), toEpochMilli(dueDate));
+            } catch (RuntimeException e) {
+                // Redis 장애 시 로컬 대기열에 등록 (lease 보유자가 아니면 다음 재적재 주기에 반영)
+                log.warn("모임 id {}를 Redis 마감 대기열에 등록하지 못했습니다. 로컬 대기열에 등록합니다.", gatheringId, e);
+                enqueue(dueDate, gatheringId);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+
+                task.run();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${gathering.close.tick-ms}")
+    public void closeDueGatherings() {
+
+        if (!acquireLease()) {
+            if (leader) log.info("모임 마감 스케줄러 lease 를 다른 인스턴스에 넘겼습니다.");
+            leader = false;
+            closeQueue.clear();
+            return;
+        }
+
+        // lease 를 새로 얻은 경우 다른 인스턴스에서 등록된 모임까지 DB 에서 다시 적재
+        if (!leader) {
+            leader = true;
+            reload();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        pollPending(now);
+        CloseTask bound = new CloseTask(now, Long.MAX_VALUE);
+
+        List<CloseTask> batch;
+        do {
+            batch = new ArrayList<>(batchSize);
+            for (CloseTask task : closeQueue.headSet(bound, true)) {
+                batch.add(task);
+                if (batch.size() >= batchSize) break;
+            }
+            if (batch.isEmpty()) return;
+
+            closeQueue.removeAll(batch);
+
+            try {
+                List<Long> gatheringIds = batch.stream().map(CloseTask::gatheringId).toList();
+                if (gatheringStore.closeGatherings(gatheringIds, now) > 0) {
+                    eventPublisher.publishEvent(new GatheringChangedEvent(gatheringIds, REMOVED));
+                }
+            } catch (RuntimeException e) {
+                log.error("모임 마감 처리에 실패했습니다. 다음 주기에 재시도합니다.", e);
+                closeQueue.addAll(batch);
+                return;
+            }
+        } while (batch.size() >= batchSize);
+    }
+
+    // 다른 인스턴스에서 생성/재생성된 모임을 반영하기 위해 주기적으로 대기열 재적재
+    @Scheduled(fixedDelayString = "${gathering.close.sync-ms}", initialDelayString = "${gathering.close.sync-ms}")
+    public void syncCloseQueue() {
+
+        if (leader) reload();
+    }
+
+    // 다른 인스턴스에서 등록한 모임 중 기한이 도래한 모임을 로컬 대기열로 가져옴
+    @SuppressWarnings("unchecked")
+    private void pollPending(LocalDateTime now) {
+
+        try {
+            List<String> ids;
+            do {
+                ids = redisTemplate.execute(POP_DUE_SCRIPT, List.of(PENDING_KEY),
+                        String.valueOf(toEpochMilli(now)), String.valueOf(batchSize));
+                if (ids == null) return;
+                ids.forEach(id -> enqueue(now, Long.valueOf(id)));
+            } while (ids.size() >= batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Redis 마감 대기열을 조회하지 못했습니다. 로컬 대기열만 처리합니다.", e);
+        }
+    }
+
+    private void enqueue(LocalDateTime dueDate, Long gatheringId) {
+
+        closeQueue.add(new CloseTask(dueDate, gatheringId));
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private void reload() {
+
+        List<GatheringDueDate> dueDates = gatheringRepository.findGatheringDueDates(LocalDateTime.now().plusHours(preloadHours));
+        dueDates.forEach(d -> enqueue(d.getDueDate(), d.getGatheringId()));
+
+        log.info("마감 대기열에 {}개의 모임을 적재했습니다.", dueDates.size());
+    }
+
+    private boolean acquireLease() {
+
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, instanceId, Duration.ofMillis(leaseTtlMs));
+            if (Boolean.TRUE.equals(acquired)) return true;
+
+            Long renewed = redisTemplate.execute(RENEW_LEASE_SCRIPT, List.of(LEASE_KEY), instanceId, String.valueOf(leaseTtlMs));
+            return renewed != null && renewed == 1L;
+        } catch (RuntimeException e) {
+            // Redis 장애 시에도 마감은 진행 (마감 쿼리는 여러 번 실행되어도 결과가 같음)
+            log.warn("모임 마감 스케줄러 lease 확인에 실패했습니다. 단독으로 마감을 진행합니다.", e);
+            return true;
+        }
+    }
+
+    private record CloseTask(LocalDateTime dueDate, Long gatheringId) {
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.manchui.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.manchui.domain.dto.gathering.GatheringListFilter;
+import com.manchui.domain.event.GatheringChangedEvent;
+import com.manchui.domain.repository.GatheringRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 모임 목록 전체 개수 캐시
+ * 필터 조합별로 짧은 TTL 동안 정확한 개수를 캐시하고, 모임 변경 이벤트가 발생하면 비운다.
+ * approximate 모드가 켜져 있으면 넓은 범위의 필터는 변경 이벤트와 무관하게 더 긴 TTL 동안 근사값을 사용한다.
+ * 모임 변경은 Redis pub/sub 채널로 모든 인스턴스(blue/green)에 전파한다.
+ */
+@Slf4j
+@Component
+public class GatheringCountCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "gathering:count:invalidate";
+
+    private final GatheringRepository gatheringRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Cache<GatheringListFilter, Long> exactCounts;
+
+    private final Cache<GatheringListFilter, Long> approximateCounts;
+
+    private final boolean approximateEnabled;
+
+    public GatheringCountCache(GatheringRepository gatheringRepository,
+                               RedisTemplate<String, String> redisTemplate,
+                               @Value("${gathering.count.exact-ttl-seconds}") long exactTtlSeconds,
+                               @Value("${gathering.count.approximate-ttl-seconds}") long approximateTtlSeconds,
+                               @Value("${gathering.count.approximate-enabled}") boolean approximateEnabled,
+                               @Value("${gathering.count.max-size}") long maxSize) {
+
+        this.gatheringRepository = gatheringRepository;
+        this.redisTemplate = redisTemplate;
+        this.approximateEnabled = approximateEnabled;
+        this.exactCounts = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(exactTtlSeconds))
+                .maximumSize(maxSize)
+                .build();
+        this.approximateCounts = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(approximateTtlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    // 첫 페이지 조회 시 전체 개수 (캐시에 없으면 count 쿼리 실행)
+    public long getCount(GatheringListFilter filter) {
+
+        return cacheFor(filter).get(filter, gatheringRepository::countGatherings);
+    }
+
+    // 다음 페이지 조회 시 전체 개수 (count 쿼리는 실행하지 않고, 캐시에 없으면 null)
+    public Long getCountIfPresent(GatheringListFilter filter) {
+
+        return cacheFor(filter).getIfPresent(filter);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGatheringChanged(GatheringChangedEvent event) {
+
+        log.debug("모임 id {} 변경으로 모임 목록 개수 캐시를 비웁니다.", event.getGatheringIds());
+        exactCounts.invalidateAll();
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, event.getChangeType().name());
+        } catch (RuntimeException e) {
+            log.warn("모임 목록 개수 캐시 무효화 메시지를 발행하지 못했습니다. (TTL 이후 만료)", e);
+        }
+    }
+
+    // 다른 인스턴스에서 모임이 변경된 경우
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        exactCounts.invalidateAll();
+    }
+
+    private Cache<GatheringListFilter, Long> cacheFor(GatheringListFilter filter) {
+
+        return approximateEnabled && filter.isBroad() ? approximateCounts : exactCounts;
+    }
+
+}
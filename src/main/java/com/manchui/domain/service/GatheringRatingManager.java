@@ -0,0 +1,65 @@
+package com.manchui.domain.service;
+
+import com.manchui.domain.dto.review.ReviewScoreInfo;
+import com.manchui.domain.entity.GatheringRating;
+import com.manchui.domain.repository.GatheringRatingRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모임별 후기 평점 집계(gathering_rating) 관리
+ * 후기 등록/수정/삭제 트랜잭션 안에서 집계 행에 쓰기 락을 걸고 반영하며, 매일 후기 테이블 기준으로 다시 계산해 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GatheringRatingManager {
+
+    private final GatheringRatingRepository gatheringRatingRepository;
+
+    // 모임 상세 조회 시 점수 통계 (집계 행이 없으면 후기가 없는 것)
+    public ReviewScoreInfo getScoreInfo(Long gatheringId) {
+
+        return gatheringRatingRepository.findById(gatheringId)
+                .map(GatheringRating::toScoreInfo)
+                .orElseGet(() -> new ReviewScoreInfo(0.0, 0L, 0L, 0L, 0L, 0L));
+    }
+
+    @Transactional
+    public void addScore(Long gatheringId, int score) {
+
+        lock(gatheringId).addScore(score);
+    }
+
+    @Transactional
+    public void changeScore(Long gatheringId, int oldScore, int newScore) {
+
+        if (oldScore == newScore) return;
+        lock(gatheringId).changeScore(oldScore, newScore);
+    }
+
+    @Transactional
+    public void removeScore(Long gatheringId, int score) {
+
+        lock(gatheringId).removeScore(score);
+    }
+
+    @Scheduled(cron = "${gathering.rating.rebuild-cron}")
+    @Transactional
+    public void rebuild() {
+
+        int affectedRows = gatheringRatingRepository.rebuildAll();
+        log.info("모임 평점 집계를 다시 계산했습니다. (변경된 행 수: {})", affectedRows);
+    }
+
+    private GatheringRating lock(Long gatheringId) {
+
+        gatheringRatingRepository.insertIfAbsent(gatheringId);
+        return gatheringRatingRepository.findByIdForUpdate(gatheringId)
+                .orElseThrow(() -> new IllegalStateException("모임 평점 집계 행이 존재하지 않습니다."));
+    }
+
+}
@@ -15,6 +15,8 @@ public interface GatheringReader {
 
     Gathering checkGatheringStatus(Long gatheringId);
 
+    Gathering checkGatheringStatusForUpdate(Long gatheringId);
+
     Gathering checkGatheringStatusIsClosed(Long gatheringId);
 
     List<UserInfo> getUserInfoList(Gathering gathering);
@@ -1,7 +1,6 @@
 package com.manchui.domain.service;
 
 import com.manchui.domain.dto.UserInfo;
-import com.manchui.domain.entity.Attendance;
 import com.manchui.domain.entity.Gathering;
 import com.manchui.domain.entity.User;
 import com.manchui.domain.repository.AttendanceRepository;
@@ -11,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,11 +41,25 @@ public class GatheringReaderImpl implements GatheringReader {
     @Override
     public Gathering checkGatheringStatus(Long gatheringId) {
 
-        Gathering gathering = checkGathering(gatheringId);
+        return validateGatheringStatus(checkGathering(gatheringId));
+    }
+
+    @Override
+    public Gathering checkGatheringStatusForUpdate(Long gatheringId) {
 
+        Gathering gathering = gatheringRepository.findByIdForUpdate(gatheringId).orElseThrow(
+                () -> new CustomException(GATHERING_NOT_FOUND)
+        );
+
+        return validateGatheringStatus(gathering);
+    }
+
+    private Gathering validateGatheringStatus(Gathering gathering) {
+
+        // 마감 스케줄러가 isClosed 를 반영하기 전이라도 마감 기한이 지났다면 마감으로 처리
         if (gathering.isCanceled()) {
             throw new CustomException(GATHERING_CANCELED);
-        } else if (gathering.isClosed()) {
+        } else if (gathering.isClosed() || !gathering.getDueDate().isAfter(LocalDateTime.now())) {
             throw new CustomException(GATHERING_CLOSED);
         }
         return gathering;
@@ -68,12 +80,7 @@ public class GatheringReaderImpl implements GatheringReader {
     @Override
     public List<UserInfo> getUserInfoList(Gathering gathering) {
 
-        List<UserInfo> userInfoList = new ArrayList<>();
-        for (Attendance attendance : attendanceRepository.findByGathering(gathering)) {
-            if (attendance.getDeletedAt() == null)
-                userInfoList.add(new UserInfo(attendance.getUser().getName(), attendance.getUser().getProfileImagePath()));
-        }
-        return userInfoList;
+        return attendanceRepository.findParticipants(gathering.getId());
     }
 
     @Override
@@ -1,5 +1,6 @@
 package com.manchui.domain.service;
 
+import com.manchui.domain.dto.CursorPagingResponse;
 import com.manchui.domain.dto.CustomUserDetails;
 import com.manchui.domain.dto.gathering.*;
 import org.springframework.data.domain.Pageable;
@@ -8,26 +9,30 @@ import org.springframework.stereotype.Service;
 @Service
 public interface GatheringService {
 
-    GatheringCreateResponse createGathering(String email, GatheringCreateRequest createRequest);
+    GatheringCreateResponse createGathering(CustomUserDetails userDetails, GatheringCreateRequest createRequest);
 
-    GatheringCursorPagingResponse getGatherings(CustomUserDetails userDetails, Long cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, boolean available);
+    GatheringCursorPagingResponse getGatherings(CustomUserDetails userDetails, String cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, boolean available);
 
-    void joinGathering(String email, Long gatheringId);
+    void joinGathering(CustomUserDetails userDetails, Long gatheringId);
 
-    void joinCancelGathering(String username, Long gatheringId);
+    void joinCancelGathering(CustomUserDetails userDetails, Long gatheringId);
 
-    void heartGathering(String email, Long gatheringId);
+    void heartGathering(CustomUserDetails userDetails, Long gatheringId);
 
-    void heartCancelGathering(String email, Long gatheringId);
+    void heartCancelGathering(CustomUserDetails userDetails, Long gatheringId);
 
     GatheringInfoResponse getGatheringInfo(CustomUserDetails userDetails, Long gatheringId, Pageable pageable);
 
-    void cancelGathering(String email, Long gatheringId);
+    void cancelGathering(CustomUserDetails userDetails, Long gatheringId);
 
-    GatheringPagingResponse getHeartList(String email, Pageable pageable, String query, String location, String startDate, String endDate, String category, String sort, boolean available);
+    GatheringPagingResponse getHeartList(CustomUserDetails userDetails, Pageable pageable, String query, String location, String startDate, String endDate, String category, String sort, boolean available);
 
-    ClosedGatheringResponse getClosedGathering(String email);
+    ClosedGatheringResponse getClosedGathering(CustomUserDetails userDetails);
 
-    ClosedGatheringInfoResponse getClosedGatheringInfo(String email, Long gatheringId);
+    ClosedGatheringInfoResponse getClosedGatheringInfo(CustomUserDetails userDetails, Long gatheringId);
+
+    GatheringCursorPagingResponse getHeartListByCursor(CustomUserDetails userDetails, String cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, boolean available);
+
+    CursorPagingResponse getReviewsByCursor(Long gatheringId, String cursor, int size);
 
 }
@@ -1,17 +1,22 @@
 package com.manchui.domain.service;
 
+import com.manchui.domain.dto.CursorPagingResponse;
 import com.manchui.domain.dto.CustomUserDetails;
+import com.manchui.domain.dto.KeysetCursor;
 import com.manchui.domain.dto.UserInfo;
 import com.manchui.domain.dto.gathering.*;
 import com.manchui.domain.dto.review.ReviewDetailPagingResponse;
 import com.manchui.domain.dto.review.ReviewInfo;
 import com.manchui.domain.dto.review.ReviewScoreInfo;
 import com.manchui.domain.entity.*;
+import com.manchui.domain.event.GatheringChangedEvent;
 import com.manchui.domain.repository.*;
 import com.manchui.global.exception.CustomException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -20,7 +25,9 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static com.manchui.domain.event.GatheringChangedEvent.ChangeType.*;
 import static com.manchui.global.exception.ErrorCode.*;
 
 @Slf4j
@@ -38,8 +45,6 @@ public class GatheringServiceImpl implements GatheringService {
 
     private final ImageServiceImpl imageService;
 
-    private final ImageRepository imageRepository;
-
     private final UserService userService;
 
     private final AttendanceRepository attendanceRepository;
@@ -48,17 +53,33 @@ public class GatheringServiceImpl implements GatheringService {
 
     private final ReviewRepository reviewRepository;
 
+    private final GatheringCloseScheduler gatheringCloseScheduler;
+
+    private final HeartCounter heartCounter;
+
+    private final UserHeartSet userHeartSet;
+
+    private final GatheringRatingManager gatheringRatingManager;
+
+    private final UserSummaryCounter userSummaryCounter;
+
+    private final GatheringCountCache gatheringCountCache;
+
+    private final GuestGatheringListCache guestGatheringListCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 0. 모임 생성
      * 작성자 : 오예령
      *
-     * @param email         유저 email
+     * @param userDetails   유저 정보 객체
      * @param createRequest 모임 생성 시 필요한 데이터 집합
      * @return 생성된 모임 정보 반환
      */
     @Override
     @Transactional
-    public GatheringCreateResponse createGathering(String email, GatheringCreateRequest createRequest) {
+    public GatheringCreateResponse createGathering(CustomUserDetails userDetails, GatheringCreateRequest createRequest) {
 
         log.info("모임 내용 길이 : {}", createRequest.getGatheringContent().getBytes(StandardCharsets.UTF_8).length);
 
@@ -67,7 +88,7 @@ public class GatheringServiceImpl implements GatheringService {
         }
 
         // 0. 유저 검증
-        User user = userService.checkUser(email);
+        User user = userService.getUserReference(userDetails);
 
         if (createRequest.getMinUsers() > createRequest.getMaxUsers()) throw new CustomException(ILLEGAL_MIN_USERS);
 
@@ -88,34 +109,43 @@ public class GatheringServiceImpl implements GatheringService {
             log.info("기존에 만들었던 모임의 이름 : {}", gathering.getGroupName());
 
             // 이미지 업로드
-            imageService.uploadGatheringImage(createRequest.getGatheringImage(), gathering.getId(), true);
+            String filePath = imageService.uploadGatheringImage(createRequest.getGatheringImage(), gathering.getId(), true);
+            gathering.updateGatheringImage(filePath);
 
             gathering.reopen(gatheringDate, dueDate, createRequest.getLocation(), createRequest.getMaxUsers(), createRequest.getMinUsers(), createRequest.getGatheringContent());
             gathering.updateTime();
+            gatheringCloseScheduler.schedule(gathering.getId(), dueDate);
 
             // 기존 참여자 및 좋아요 삭제
+            userSummaryCounter.evict(attendanceRepository.findUserEmailsByGathering(gathering));
             attendanceRepository.findByGathering(gathering).forEach(attendance -> {
                 if (!attendance.getUser().equals(user)) {
                     attendance.softDelete();
                 }
             });
-            heartRepository.deleteAll(heartRepository.findByGathering(gathering));
+            userHeartSet.evict(heartRepository.findUserEmailsByGathering(gathering));
+            heartRepository.deleteAllByGathering(gathering);
+            heartCounter.reset(gathering.getId());
 
-            log.info("모임 재생성: 주최자 {}가 모임 id {}의 '{}'을 다시 모집 중으로 변경했습니다.", user.getName(), gathering.getId(), gathering.getGroupName());
-            Image image = imageRepository.findByGatheringId(gathering.getId());
-            return gathering.toResponseDto(image.getFilePath());
+            eventPublisher.publishEvent(new GatheringChangedEvent(gathering.getId(), CREATED));
+            log.info("모임 재생성: 주최자 {}가 모임 id {}의 '{}'을 다시 모집 중으로 변경했습니다.", userDetails.getName(), gathering.getId(), gathering.getGroupName());
+            return gathering.toResponseDto(gathering.getGatheringImage());
 
         } else {
             // 2. 모임 및 이미지 객체 저장
             Gathering gathering = gatheringStore.saveGathering(createRequest, user, gatheringDate, dueDate);
-            imageService.uploadGatheringImage(createRequest.getGatheringImage(), gathering.getId(), false);
+            userSummaryCounter.evict(userDetails.getUsername());
+            String filePath = imageService.uploadGatheringImage(createRequest.getGatheringImage(), gathering.getId(), false);
+            gathering.updateGatheringImage(filePath);
+            gatheringCloseScheduler.schedule(gathering.getId(), dueDate);
 
             // 3. 주최자를 모임에 자동으로 참여시킴
             attendanceRepository.save(Attendance.builder().user(user).gathering(gathering).build());
-            log.info("새 모임 생성: 주최자 {}가 모임 id {}의 '{}'에 자동으로 참여되었습니다.", user.getName(), gathering.getId(), gathering.getGroupName());
+            gathering.increaseCurrentUsers();
+            eventPublisher.publishEvent(new GatheringChangedEvent(gathering.getId(), CREATED));
+            log.info("새 모임 생성: 주최자 {}가 모임 id {}의 '{}'에 자동으로 참여되었습니다.", userDetails.getName(), gathering.getId(), gathering.getGroupName());
 
-            Image image = imageRepository.findByGatheringId(gathering.getId());
-            return gathering.toResponseDto(image.getFilePath());
+            return gathering.toResponseDto(gathering.getGatheringImage());
         }
     }
 
@@ -124,7 +154,7 @@ public class GatheringServiceImpl implements GatheringService {
      * 작성자: 오예령
      *
      * @param userDetails 유저 정보 객체
-     * @param cursor      커서 id
+     * @param cursor      이전 페이지의 nextCursor (첫 페이지는 null)
      * @param size        조회 요청 개수
      * @param query       검색 키워드
      * @param location    위치
@@ -136,20 +166,24 @@ public class GatheringServiceImpl implements GatheringService {
      * @return 요청한 범위에 대한 모임 List 반환
      */
     @Override
-    @Transactional
-    public GatheringCursorPagingResponse getGatherings(CustomUserDetails userDetails, Long cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, boolean available) {
+    public GatheringCursorPagingResponse getGatherings(CustomUserDetails userDetails, String cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, boolean available) {
 
-        GatheringCursorPagingResponse response;
+        GatheringListFilter filter = GatheringListFilter.of(query, location, startDate, endDate, category, available);
 
         if (userDetails != null && !userDetails.isGuest()) {
-            // 회원일 경우, 모임 목록과 총 개수 조회
-            response = gatheringRepository.getGatheringListByUser(userDetails.getUsername(), cursor, size, query, location, startDate, endDate, category, sort, available);
-        } else {
-            // 비회원일 경우, 모임 목록과 총 개수 조회
-            response = gatheringRepository.getGatheringListByGuest(cursor, size, query, location, startDate, endDate, category, sort, available);
+            // 회원일 경우, 모임 목록 조회 후 좋아요 여부 반영
+            List<GatheringListResponse> gatheringList = gatheringRepository.getGatheringListByUser(userDetails.getUsername(), cursor, size, filter, sort);
+            Set<Long> heartedGatheringIds = userHeartSet.getHeartedGatheringIds(userDetails);
+            gatheringList.forEach(response -> response.updateHearted(heartedGatheringIds));
+            return GatheringCursorPagingResponse.of(getGatheringCount(filter, cursor), gatheringList, size, sort);
         }
 
-        return response;
+        // 비회원의 첫 페이지는 응답 캐시 사용
+        if (cursor == null) {
+            return guestGatheringListCache.get(filter, sort, size, () -> getGuestGatherings(null, size, filter, sort));
+        }
+
+        return getGuestGatherings(cursor, size, filter, sort);
     }
 
 
@@ -157,20 +191,18 @@ public class GatheringServiceImpl implements GatheringService {
      * 2. 모임 참여
      * 작성자: 오예령
      *
-     * @param email       유저 email
+     * @param userDetails 유저 정보 객체
      * @param gatheringId 모임 id
      */
     @Override
     @Transactional
-    public void joinGathering(String email, Long gatheringId) {
+    public void joinGathering(CustomUserDetails userDetails, Long gatheringId) {
 
-        // 유저 및 모임 객체 검증
-        User user = userService.checkUser(email);
-        Gathering gathering = gatheringReader.checkGatheringStatus(gatheringId);
+        // 유저 및 모임 객체 검증 (참여 인원 변경을 위해 모임에 쓰기 락)
+        User user = userService.getUserReference(userDetails);
+        Gathering gathering = gatheringReader.checkGatheringStatusForUpdate(gatheringId);
 
-        int currentAttendanceCount = attendanceRepository.countByGatheringAndDeletedAtIsNull(gathering);
-
-        if (currentAttendanceCount >= gathering.getMaxUsers()) { // 최대 인원 수 초과 체크
+        if (gathering.getCurrentUsers() >= gathering.getMaxUsers()) { // 최대 인원 수 초과 체크
             log.warn("모임 id {}는 정원이 다 찼습니다.", gatheringId);
             throw new CustomException(GATHERING_FULL);
         }
@@ -183,95 +215,100 @@ public class GatheringServiceImpl implements GatheringService {
         } else {
             gatheringStore.saveAttendance(user, gathering);
         }
-        // 다시 조회하여 최신 인원 수 가져오기
-        currentAttendanceCount = attendanceRepository.countByGatheringAndDeletedAtIsNull(gathering);
+        gathering.increaseCurrentUsers();
 
         // 모임의 개설 확정 상태값 변경 (최소 인원 충족 시 개설 확정 true)
-        if (currentAttendanceCount == gathering.getMinUsers()) gathering.open();
+        if (gathering.getCurrentUsers() == gathering.getMinUsers()) gathering.open();
+        eventPublisher.publishEvent(new GatheringChangedEvent(gatheringId, UPDATED));
+        userSummaryCounter.evict(userDetails.getUsername());
 
-        log.info("사용자 {}가 모임 id {}에 참여했습니다.", user.getName(), gatheringId);
+        log.info("사용자 {}가 모임 id {}에 참여했습니다.", userDetails.getName(), gatheringId);
     }
 
     /**
      * 3. 모임 참여 신청 취소
      * 작성자: 오예령
      *
-     * @param email       유저 email
+     * @param userDetails 유저 정보 객체
      * @param gatheringId 모임 id
      */
     @Override
     @Transactional
-    public void joinCancelGathering(String email, Long gatheringId) {
+    public void joinCancelGathering(CustomUserDetails userDetails, Long gatheringId) {
 
-        // 유저 및 모임 객체 검증
-        User user = userService.checkUser(email);
-        Gathering gathering = gatheringReader.checkGatheringStatus(gatheringId);
+        // 유저 및 모임 객체 검증 (참여 인원 변경을 위해 모임에 쓰기 락)
+        User user = userService.getUserReference(userDetails);
+        Gathering gathering = gatheringReader.checkGatheringStatusForUpdate(gatheringId);
 
         // 모임 생성자(주최자)는 취소할 수 없음 -> 필수 참석!
         if (user.equals(gathering.getUser())) throw new CustomException(MUST_JOIN_IN);
 
-        // 참여 내역이 있는 지 확인
+        // 참여 내역이 있는 지 확인 (이미 취소한 참여 내역은 다시 취소할 수 없음)
         Attendance attendance = attendanceRepository.findByUserAndGathering(user, gathering)
+                .filter(a -> a.getDeletedAt() == null)
                 .orElseThrow(() -> new CustomException(ATTENDANCE_NOT_EXIST));
 
         attendance.softDelete();
+        gathering.decreaseCurrentUsers();
 
         // 모임의 개설 확정 상태값 변경 (최소 인원 미충족 시 개설 확정 false)
-        int currentAttendanceCount = attendanceRepository.countByGatheringAndDeletedAtIsNull(gathering);
-        if (currentAttendanceCount < gathering.getMinUsers()) gathering.close();
+        if (gathering.getCurrentUsers() < gathering.getMinUsers()) gathering.close();
+        eventPublisher.publishEvent(new GatheringChangedEvent(gatheringId, UPDATED));
+        userSummaryCounter.evict(userDetails.getUsername());
 
-        log.info("사용자 {}가 모임 id {}에 대한 참여 신청을 취소했습니다.", user.getName(), gatheringId);
+        log.info("사용자 {}가 모임 id {}에 대한 참여 신청을 취소했습니다.", userDetails.getName(), gatheringId);
     }
 
     /**
      * 4. 모임 좋아요
      * 작성자: 오예령
      *
-     * @param email       유저 email
+     * @param userDetails 유저 정보 객체
      * @param gatheringId 모임 id
      */
     @Override
     @Transactional
-    public void heartGathering(String email, Long gatheringId) {
+    public void heartGathering(CustomUserDetails userDetails, Long gatheringId) {
 
         // 유저 및 모임 객체 검증
-        User user = userService.checkUser(email);
+        User user = userService.getUserReference(userDetails);
         Gathering gathering = gatheringReader.checkGatheringStatus(gatheringId);
 
-        heartRepository.findByUserAndGathering(user, gathering)
-                .ifPresent(heart -> {
-                    log.warn("사용자 {}가 모임 id {}에 이미 좋아요를 눌렀습니다.", user.getName(), gatheringId);
-                    throw new CustomException(ALREADY_HEART_GATHERING);
-                });
+        // 중복 좋아요는 (회원, 모임) 유니크 제약으로 판단
+        try {
+            heartRepository.saveAndFlush(Heart.builder().gathering(gathering).user(user).build());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("사용자 {}가 모임 id {}에 이미 좋아요를 눌렀습니다.", userDetails.getName(), gatheringId);
+            throw new CustomException(ALREADY_HEART_GATHERING);
+        }
 
-        heartRepository.save(Heart.builder().gathering(gathering).user(user).build());
+        heartCounter.increase(gatheringId);
+        userHeartSet.evict(userDetails.getUsername());
     }
 
     /**
      * 5. 모임 좋아요 취소
      * 작성자: 오예령
      *
-     * @param email       유저 email
+     * @param userDetails 유저 정보 객체
      * @param gatheringId 모임 id
      */
     @Override
     @Transactional
-    public void heartCancelGathering(String email, Long gatheringId) {
+    public void heartCancelGathering(CustomUserDetails userDetails, Long gatheringId) {
 
         // 유저 및 모임 객체 검증
-        User user = userService.checkUser(email);
+        User user = userService.getUserReference(userDetails);
         Gathering gathering = gatheringReader.checkGatheringStatus(gatheringId);
 
-        Optional<Heart> heartOptional = heartRepository.findByUserAndGathering(user, gathering);
-
-        // 좋아요가 없으면 예외 처리
-        if (heartOptional.isEmpty()) {
-            log.warn("사용자 {}가 모임 id {}에 좋아요를 누른 내역이 없습니다.", user.getName(), gatheringId);
+        // 좋아요 취소 로직 (삭제된 행이 없으면 좋아요 내역이 없는 것)
+        if (heartRepository.deleteByUserAndGathering(user, gathering) == 0) {
+            log.warn("사용자 {}가 모임 id {}에 좋아요를 누른 내역이 없습니다.", userDetails.getName(), gatheringId);
             throw new CustomException(HEART_NOT_EXIST);
         }
 
-        // 좋아요 취소 로직
-        heartRepository.delete(heartOptional.get());
+        heartCounter.decrease(gatheringId);
+        userHeartSet.evict(userDetails.getUsername());
     }
 
     /**
@@ -288,7 +325,7 @@ public class GatheringServiceImpl implements GatheringService {
         GatheringInfoResponse response;
 
         if (userDetails != null && !userDetails.isGuest()) {
-            response = createGatheringInfoResponse(gatheringId, pageable, true, userDetails.getUsername());
+            response = createGatheringInfoResponse(gatheringId, pageable, true, userDetails);
         } else {
             response = createGatheringInfoResponse(gatheringId, pageable, false, null);
         }
@@ -300,55 +337,62 @@ public class GatheringServiceImpl implements GatheringService {
      * 7. 모임 모집 취소
      * 작성자: 오예령
      *
-     * @param email       유저 email
+     * @param userDetails 유저 정보 객체
      * @param gatheringId 모임 id
      */
     @Override
     @Transactional
-    public void cancelGathering(String email, Long gatheringId) {
+    public void cancelGathering(CustomUserDetails userDetails, Long gatheringId) {
 
-        User user = userService.checkUser(email);
+        User user = userService.getUserReference(userDetails);
         Gathering gathering = gatheringReader.checkGathering(gatheringId);
 
         if (!gathering.getUser().equals(user)) {
-            log.warn("사용자 {}가 권한 없이 모임 id {}를 취소하려 했습니다.", user.getName(), gatheringId);
+            log.warn("사용자 {}가 권한 없이 모임 id {}를 취소하려 했습니다.", userDetails.getName(), gatheringId);
             throw new CustomException(UNAUTHORIZED_GATHERING_CANCEL);
         }
         gathering.cancel();
+        eventPublisher.publishEvent(new GatheringChangedEvent(gatheringId, REMOVED));
+
+        // 참여자들의 참여한 모임 개수가 바뀌므로 요약을 다시 적재
+        userSummaryCounter.evict(attendanceRepository.findUserEmailsByGathering(gathering));
     }
 
     /**
      * 8. 찜한 모임 목록 조회
      * 작성자: 오예령
      *
-     * @param email     유저 email
-     * @param pageable  페이징 처리에 필요한 데이터
-     * @param location  위치
-     * @param startDate 시작 날짜
-     * @param endDate   끝 날짜
-     * @param category  모임 카테고리
-     * @param sort      정렬 기준
-     * @param available 사용자가 참여한 모임만 조회할지 여부를 나타내는 boolean 값
+     * @param userDetails 유저 정보 객체
+     * @param pageable    페이징 처리에 필요한 데이터
+     * @param location    위치
+     * @param startDate   시작 날짜
+     * @param endDate     끝 날짜
+     * @param category    모임 카테고리
+     * @param sort        정렬 기준
+     * @param available   사용자가 참여한 모임만 조회할지 여부를 나타내는 boolean 값
      * @return 유저가 찜한 모임의 목록 반환
      */
     @Override
-    @Transactional
-    public GatheringPagingResponse getHeartList(String email, Pageable pageable, String query, String location, String startDate, String endDate, String category, String sort, boolean available) {
+    public GatheringPagingResponse getHeartList(CustomUserDetails userDetails, Pageable pageable, String query, String location, String startDate, String endDate, String category, String sort, boolean available) {
+
+        Set<Long> heartedGatheringIds = userHeartSet.getHeartedGatheringIds(userDetails);
+        Page<GatheringListResponse> heartList = gatheringRepository.getHeartList(userDetails.getUsername(), heartedGatheringIds, pageable, query, location, startDate, endDate, category, sort, available);
+        heartList.forEach(response -> response.updateHearted(heartedGatheringIds));
 
-        return new GatheringPagingResponse(gatheringRepository.getHeartList(email, pageable, query, location, startDate, endDate, category, sort, available));
+        return new GatheringPagingResponse(heartList);
     }
 
     /**
      * 9. 유저가 생성한 모임 중 마감된 모임 목록 조회
      * 작성자: 오예령
      *
-     * @param email 유저 email
+     * @param userDetails 유저 정보 객체
      * @return 해당하는 모임 list 반환
      */
     @Override
-    public ClosedGatheringResponse getClosedGathering(String email) {
+    public ClosedGatheringResponse getClosedGathering(CustomUserDetails userDetails) {
 
-        User user = userService.checkUser(email);
+        User user = userService.getUserReference(userDetails);
 
         List<Gathering> gatheringList = gatheringReader.findClosedGathering(user);
 
@@ -365,21 +409,85 @@ public class GatheringServiceImpl implements GatheringService {
      * 10. 유저가 요청한 마감된 모임 상세 내용 조회
      * 작성자: 오예령
      *
-     * @param email       유저 email
+     * @param userDetails 유저 정보 객체
      * @param gatheringId 모임 id
      * @return 해당하는 모임 상세 내용 반환
      */
     @Override
-    public ClosedGatheringInfoResponse getClosedGatheringInfo(String email, Long gatheringId) {
+    public ClosedGatheringInfoResponse getClosedGatheringInfo(CustomUserDetails userDetails, Long gatheringId) {
 
-        User user = userService.checkUser(email);
+        User user = userService.getUserReference(userDetails);
         Gathering gathering = gatheringReader.checkGatheringStatusIsClosed(gatheringId);
 
-        if (gathering.getUser() != user) throw new CustomException(PERMISSION_DENIED);
+        if (!gathering.getUser().equals(user)) throw new CustomException(PERMISSION_DENIED);
 
-        String gatheringImage = imageRepository.findByGatheringId(gatheringId).getFilePath();
+        return gathering.toClosedResponseDto(gathering.getGatheringImage());
+    }
+
+    /**
+     * 11. 찜한 모임 목록 조회 (커서 기반 페이징)
+     * 작성자: 오예령
+     *
+     * @param userDetails 유저 정보 객체
+     * @param cursor      이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size        조회 요청 개수
+     * @param query       검색 키워드
+     * @param location    위치
+     * @param startDate   시작 날짜
+     * @param endDate     끝 날짜
+     * @param category    모임 카테고리
+     * @param sort        정렬 기준
+     * @param available   참여 가능한 모임만 조회할지 여부를 나타내는 boolean 값
+     * @return 유저가 찜한 모임의 목록과 다음 페이지 커서 반환
+     */
+    @Override
+    public GatheringCursorPagingResponse getHeartListByCursor(CustomUserDetails userDetails, String cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, boolean available) {
+
+        Set<Long> heartedGatheringIds = userHeartSet.getHeartedGatheringIds(userDetails);
+
+        // 좋아요한 모임이 없으면 조회하지 않음
+        if (heartedGatheringIds.isEmpty()) return GatheringCursorPagingResponse.of(0L, List.of(), size, sort);
+
+        GatheringListFilter filter = GatheringListFilter.of(query, location, startDate, endDate, category, available);
+        List<GatheringListResponse> heartList = gatheringRepository.getHeartListByCursor(userDetails.getUsername(), heartedGatheringIds, cursor, size, filter, sort);
+        heartList.forEach(response -> response.updateHearted(heartedGatheringIds));
+
+        // 총 개수는 첫 페이지에서만 조회
+        Long heartCount = (cursor == null) ? gatheringRepository.countHeartGatherings(heartedGatheringIds, filter) : null;
 
-        return gathering.toClosedResponseDto(gatheringImage);
+        return GatheringCursorPagingResponse.of(heartCount, heartList, size, sort);
+    }
+
+    /**
+     * 12. 모임 상세 후기 목록 조회 (커서 기반 페이징)
+     * 작성자: 오예령
+     *
+     * @param gatheringId 모임 id
+     * @param cursor      이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size        조회 요청 개수
+     * @return 최신순 후기 목록과 다음 페이지 커서 반환
+     */
+    @Override
+    public CursorPagingResponse getReviewsByCursor(Long gatheringId, String cursor, int size) {
+
+        List<ReviewInfo> reviewList = reviewRepository.getReviewInfoListByCursor(gatheringId, cursor, size);
+
+        return CursorPagingResponse.of(reviewList, size, r -> KeysetCursor.of(r.getCreatedAt(), r.getReviewId()));
+    }
+
+    // 비회원 모임 목록 조회
+    private GatheringCursorPagingResponse getGuestGatherings(String cursor, int size, GatheringListFilter filter, String sort) {
+
+        List<GatheringListResponse> gatheringList = gatheringRepository.getGatheringListByGuest(cursor, size, filter, sort);
+        return GatheringCursorPagingResponse.of(getGatheringCount(filter, cursor), gatheringList, size, sort);
+    }
+
+    // 총 개수는 첫 페이지에서만 조회하고, 다음 페이지는 캐시된 값이 있을 때만 포함
+    private Long getGatheringCount(GatheringListFilter filter, String cursor) {
+
+        return (cursor == null)
+                ? gatheringCountCache.getCount(filter)
+                : gatheringCountCache.getCountIfPresent(filter);
     }
 
     // 참여 여부 판단
@@ -395,7 +503,7 @@ public class GatheringServiceImpl implements GatheringService {
     }
 
     // 상세 조회 응답 객체 생성
-    private GatheringInfoResponse createGatheringInfoResponse(Long gatheringId, Pageable pageable, boolean isUser, String email) {
+    private GatheringInfoResponse createGatheringInfoResponse(Long gatheringId, Pageable pageable, boolean isUser, CustomUserDetails userDetails) {
 
         log.info("모임 id {} 의 상세 조회 응답 객체 생성 중입니다.", gatheringId);
         Gathering gathering = gatheringReader.checkGathering(gatheringId);
@@ -403,27 +511,25 @@ public class GatheringServiceImpl implements GatheringService {
 
         ReviewDetailPagingResponse reviewsList = getReviews(pageable, gatheringId);
 
-        Image image = imageRepository.findByGatheringId(gatheringId);
-
         int currentUsers = userInfoList.size();
         log.info("현재 모임 id {}의 참여자 수: {}", gatheringId, currentUsers);
 
-        List<Heart> byGathering = heartRepository.findByGathering(gathering);
-
-        int heartCounts = byGathering.size();
+        int heartCounts = heartCounter.getCount(gathering);
 
-        // 사용자 정보와 좋아요 여부 확인
-        Optional<User> user = Optional.ofNullable(email).map(userService::checkUser);
-        boolean isHearted = isUser && user.flatMap(u -> heartRepository.findByUserAndGathering(u, gathering)).isPresent();
+        // 좋아요 여부 확인 (회원별 좋아요 모임 집합 사용)
+        boolean isHearted = isUser && userDetails != null && userHeartSet.getHeartedGatheringIds(userDetails).contains(gatheringId);
 
-        return new GatheringInfoResponse(gathering, image.getFilePath(), currentUsers, heartCounts, isHearted, userInfoList, reviewsList);
+        return new GatheringInfoResponse(gathering, gathering.getGatheringImage(), currentUsers, heartCounts, isHearted, userInfoList, reviewsList);
     }
 
     // 상세 조회 후기 관련 응답 객체 생성
     public ReviewDetailPagingResponse getReviews(Pageable pageable, Long gatheringId) {
 
-        Page<ReviewInfo> pageList = reviewRepository.getReviewInfoList(pageable, gatheringId);
-        ReviewScoreInfo scoreInfo = reviewRepository.getScoreStatisticsByGathering(gatheringId);
+        // 삭제되지 않은 후기 수는 점수별 후기 수의 합과 같으므로 별도 count 쿼리 없이 사용
+        ReviewScoreInfo scoreInfo = gatheringRatingManager.getScoreInfo(gatheringId);
+        long reviewCount = scoreInfo.getFiveScoreCount() + scoreInfo.getFourScoreCount() + scoreInfo.getThreeScoreCount()
+                + scoreInfo.getTwoScoreCount() + scoreInfo.getOneScoreCount();
+        Page<ReviewInfo> pageList = reviewRepository.getReviewInfoList(pageable, gatheringId, reviewCount);
 
         return new ReviewDetailPagingResponse(pageList, scoreInfo);
     }
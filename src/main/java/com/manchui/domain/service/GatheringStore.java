@@ -5,6 +5,8 @@ import com.manchui.domain.entity.Gathering;
 import com.manchui.domain.entity.User;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 public interface GatheringStore {
 
@@ -12,4 +14,12 @@ public interface GatheringStore {
 
     void saveAttendance(User user, Gathering gathering);
 
+    long closeGatherings(List<Long> gatheringIds, LocalDateTime now);
+
+    boolean applyHeartCountDeltas(String batchId, Map<Long, Long> deltas);
+
+    int findHeartCount(Long gatheringId);
+
+    void resetHeartCount(Long gatheringId);
+
 }
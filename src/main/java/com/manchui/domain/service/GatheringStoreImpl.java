@@ -8,9 +8,12 @@ import com.manchui.domain.repository.AttendanceRepository;
 import com.manchui.domain.repository.GatheringRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -20,6 +23,8 @@ public class GatheringStoreImpl implements GatheringStore {
 
     private final AttendanceRepository attendanceRepository;
 
+    private final JdbcTemplate jdbcTemplate;
+
     @Override
     @Transactional
     public Gathering saveGathering(GatheringCreateRequest createRequest, User user, LocalDateTime gatheringDate, LocalDateTime dueDate) {
@@ -37,4 +42,50 @@ public class GatheringStoreImpl implements GatheringStore {
                 .build());
     }
 
+    @Override
+    @Transactional
+    public long closeGatherings(List<Long> gatheringIds, LocalDateTime now) {
+
+        return gatheringRepository.closeGatherings(gatheringIds, now);
+    }
+
+    // 모임별 좋아요 증감량을 한 번의 batch update 로 반영 (커밋 이후 콜백에서도 호출되므로 별도 트랜잭션)
+    // 같은 트랜잭션에서 batch id 를 기록하므로, 이미 반영된 batch 를 다시 반영하려 하면 false 를 반환하고 건너뜀
+    @Override
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public boolean applyHeartCountDeltas(String batchId, Map<Long, Long> deltas) {
+
+        int inserted = jdbcTemplate.update(
+                "INSERT IGNORE INTO heart_flush_batch (batch_id, applied_at) VALUES (?, NOW())", batchId);
+        if (inserted == 0) return false;
+
+        List<Object[]> batchArgs = deltas.entrySet().stream()
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE gathering SET heart_count = GREATEST(heart_count + ?, 0) WHERE gathering_id = ?",
+                batchArgs);
+
+        // 복구 대상이 될 수 있는 기간(하루)이 지난 기록 정리
+        jdbcTemplate.update("DELETE FROM heart_flush_batch WHERE applied_at < NOW() - INTERVAL 1 DAY");
+        return true;
+    }
+
+    // 캐시된 엔티티가 아닌 현재 DB 의 좋아요 수
+    @Override
+    public int findHeartCount(Long gatheringId) {
+
+        Integer heartCount = jdbcTemplate.queryForObject(
+                "SELECT heart_count FROM gathering WHERE gathering_id = ?", Integer.class, gatheringId);
+        return heartCount == null ? 0 : heartCount;
+    }
+
+    @Override
+    @Transactional
+    public void resetHeartCount(Long gatheringId) {
+
+        jdbcTemplate.update("UPDATE gathering SET heart_count = 0 WHERE gathering_id = ?", gatheringId);
+    }
+
 }
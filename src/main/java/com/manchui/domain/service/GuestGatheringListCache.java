@@ -0,0 +1,109 @@
+package com.manchui.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.manchui.domain.dto.gathering.GatheringCursorPagingResponse;
+import com.manchui.domain.dto.gathering.GatheringListFilter;
+import com.manchui.domain.dto.gathering.GatheringListResponse;
+import com.manchui.domain.event.GatheringChangedEvent;
+import com.manchui.domain.event.GatheringChangedEvent.ChangeType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.manchui.domain.event.GatheringChangedEvent.ChangeType.UPDATED;
+
+/**
+ * 비회원 모임 목록 첫 페이지 응답 캐시
+ * (필터 조합, 정렬, 조회 개수) 별로 짧은 TTL 동안 응답을 캐시한다.
+ * 모임이 생성/취소/마감되면 전체를, 참여 인원만 바뀌면 해당 모임이 포함된 응답과 참여 가능 필터 응답만 비운다.
+ * 모임 변경은 Redis pub/sub 채널로 모든 인스턴스(blue/green)에 전파한다. ("변경 유형 모임id,모임id,...")
+ */
+@Slf4j
+@Component
+public class GuestGatheringListCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "gathering:guest-list:invalidate";
+
+    private static final String DEFAULT_SORT_FIELD = "createdAt";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Cache<Key, GatheringCursorPagingResponse> responses;
+
+    public GuestGatheringListCache(RedisTemplate<String, String> redisTemplate,
+                                   @Value("${gathering.guest-list-cache.ttl-seconds}") long ttlSeconds,
+                                   @Value("${gathering.guest-list-cache.max-size}") long maxSize) {
+
+        this.redisTemplate = redisTemplate;
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public GatheringCursorPagingResponse get(GatheringListFilter filter, String sort, int size, Supplier<GatheringCursorPagingResponse> loader) {
+
+        return responses.get(new Key(filter, sort == null ? DEFAULT_SORT_FIELD : sort, size), key -> loader.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGatheringChanged(GatheringChangedEvent event) {
+
+        evict(event.getChangeType(), event.getGatheringIds());
+
+        String ids = event.getGatheringIds().stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, event.getChangeType().name() + " " + ids);
+        } catch (RuntimeException e) {
+            log.warn("비회원 모임 목록 캐시 무효화 메시지를 발행하지 못했습니다. (TTL 이후 만료)", e);
+        }
+    }
+
+    // 다른 인스턴스에서 모임이 변경된 경우
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(' ');
+        if (separator < 0) {
+            responses.invalidateAll();
+            return;
+        }
+
+        String ids = body.substring(separator + 1);
+        List<Long> gatheringIds = ids.isEmpty() ? List.of() : Arrays.stream(ids.split(",")).map(Long::valueOf).toList();
+        evict(ChangeType.valueOf(body.substring(0, separator)), gatheringIds);
+    }
+
+    private void evict(ChangeType changeType, List<Long> gatheringIds) {
+
+        if (changeType != UPDATED) {
+            responses.invalidateAll();
+            return;
+        }
+
+        // 참여 인원 변경은 해당 모임이 포함된 응답과 참여 가능 여부로 거른 응답에만 영향
+        responses.asMap().entrySet().removeIf(entry -> entry.getKey().filter().isAvailable()
+                || entry.getValue().getGatheringList().stream()
+                .map(GatheringListResponse::getGatheringId)
+                .anyMatch(gatheringIds::contains));
+
+        log.debug("모임 id {} 변경으로 비회원 모임 목록 캐시를 갱신했습니다.", gatheringIds);
+    }
+
+    private record Key(GatheringListFilter filter, String sort, int size) {
+    }
+
+}
@@ -0,0 +1,211 @@
+package com.manchui.domain.service;
+
+import com.manchui.domain.entity.Gathering;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 모임 좋아요 수 카운터
+ * 조회는 Redis 의 모임별 카운터(heart:count:{모임 id})를 사용하고,
+ * 증감량은 Redis hash(heart:delta)에 누적해 두었다가 주기적으로 gathering.heart_count 에 일괄 반영한다.
+ * 반영 중인 증감량은 고정된 키(heart:delta:flushing)로 옮겨 두고 lease 를 가진 인스턴스 하나만 반영하므로,
+ * 반영 도중 인스턴스가 종료되어도 다음 lease 보유자가 남은 증감량부터 이어서 반영한다.
+ * 반영 중 hash 마다 batch id 를 부여하고 DB 반영과 같은 트랜잭션에서 기록하므로, 같은 batch 가 두 번 반영되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeartCounter {
+
+    private static final String COUNT_KEY_PREFIX = "heart:count:";
+
+    private static final String DELTA_KEY = "heart:delta";
+
+    private static final String FLUSHING_KEY = DELTA_KEY + ":flushing";
+
+    private static final String LEASE_KEY = "heart:flush:lease";
+
+    // 반영 중 hash 에 함께 저장하는 batch id 필드 (모임 id 필드와 겹치지 않음)
+    private static final String BATCH_FIELD = "batch";
+
+    // 카운터가 적재되어 있는 경우에만 증감하고, 증감량은 항상 delta hash 에 누적
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then redis.call('incrby', KEYS[1], ARGV[2]) end " +
+                    "return redis.call('hincrby', KEYS[2], ARGV[1], ARGV[2])",
+            Long.class);
+
+    // 카운터가 없으면 DB 값 + 아직 반영되지 않은 증감량(누적 중 + 반영 중)으로 적재
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('get', KEYS[1]) " +
+                    "if count then return tonumber(count) end " +
+                    "count = tonumber(ARGV[2]) + tonumber(redis.call('hget', KEYS[2], ARGV[1]) or '0') " +
+                    "+ tonumber(redis.call('hget', KEYS[3], ARGV[1]) or '0') " +
+                    "redis.call('set', KEYS[1], count, 'EX', ARGV[3]) " +
+                    "return count",
+            Long.class);
+
+    // 반영 중 hash 가 있으면 그 batch id 를, 없으면 누적 중 hash 를 옮기고 새 batch id 를 부여해 반환
+    // KEYS: 누적 중 hash, 반영 중 hash / ARGV: 새 batch id
+    private static final RedisScript<String> CLAIM_BATCH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 0 then " +
+                    "if redis.call('exists', KEYS[1]) == 0 then return false end " +
+                    "redis.call('rename', KEYS[1], KEYS[2]) end " +
+                    "local batch = redis.call('hget', KEYS[2], '" + BATCH_FIELD + "') " +
+                    "if batch then return batch end " +
+                    "redis.call('hset', KEYS[2], '" + BATCH_FIELD + "', ARGV[1]) " +
+                    "return ARGV[1]",
+            String.class);
+
+    // lease 보유자인 경우에만 만료 시간 연장
+    private static final RedisScript<Long> RENEW_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final GatheringStore gatheringStore;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${gathering.heart.count-ttl-seconds}")
+    private long countTtlSeconds;
+
+    @Value("${gathering.heart.lease-ttl-ms}")
+    private long leaseTtlMs;
+
+    // 좋아요 수 조회 (카운터가 없으면 이미 조회된 엔티티 값이 아닌 현재 DB 값으로 적재)
+    public int getCount(Gathering gathering) {
+
+        try {
+            String cached = redisTemplate.opsForValue().get(countKey(gathering.getId()));
+            if (cached != null) return (int) Math.max(Long.parseLong(cached), 0L);
+
+            int heartCount = gatheringStore.findHeartCount(gathering.getId());
+            Long count = redisTemplate.execute(LOAD_SCRIPT,
+                    List.of(countKey(gathering.getId()), DELTA_KEY, FLUSHING_KEY),
+                    String.valueOf(gathering.getId()), String.valueOf(heartCount), String.valueOf(countTtlSeconds));
+            return count == null ? gathering.getHeartCount() : (int) Math.max(count, 0L);
+        } catch (RuntimeException e) {
+            log.warn("모임 id {}의 좋아요 수를 Redis 에서 조회하지 못했습니다. DB 값을 사용합니다.", gathering.getId(), e);
+            return gathering.getHeartCount();
+        }
+    }
+
+    // 좋아요 시 증가 (트랜잭션 커밋 이후 반영)
+    public void increase(Long gatheringId) {
+
+        afterCommit(() -> apply(gatheringId, 1L));
+    }
+
+    // 좋아요 취소 시 감소 (트랜잭션 커밋 이후 반영)
+    public void decrease(Long gatheringId) {
+
+        afterCommit(() -> apply(gatheringId, -1L));
+    }
+
+    // 모임 재생성 시 좋아요 초기화
+    public void reset(Long gatheringId) {
+
+        gatheringStore.resetHeartCount(gatheringId);
+
+        afterCommit(() -> {
+            try {
+                redisTemplate.opsForHash().delete(DELTA_KEY, String.valueOf(gatheringId));
+                redisTemplate.delete(countKey(gatheringId));
+            } catch (RuntimeException e) {
+                log.warn("모임 id {}의 좋아요 카운터를 초기화하지 못했습니다.", gatheringId, e);
+            }
+        });
+    }
+
+    // 누적된 증감량을 gathering.heart_count 에 일괄 반영 (기동 직후 첫 주기에 이전 인스턴스가 남긴 반영 중 증감량도 복구)
+    @Scheduled(fixedDelayString = "${gathering.heart.flush-ms}")
+    public void flush() {
+
+        try {
+            if (!acquireLease()) return;
+
+            // 이전 주기(또는 종료된 인스턴스)가 반영하지 못한 증감량이 남아 있으면 그것부터 다시 반영
+            String batchId = redisTemplate.execute(CLAIM_BATCH_SCRIPT, List.of(DELTA_KEY, FLUSHING_KEY), UUID.randomUUID().toString());
+            if (batchId == null) return;
+
+            Map<Long, Long> deltas = new HashMap<>();
+            redisTemplate.opsForHash().entries(FLUSHING_KEY).forEach((field, value) -> {
+                if (BATCH_FIELD.equals(field.toString())) return;
+                long delta = Long.parseLong(value.toString());
+                if (delta != 0) deltas.put(Long.valueOf(field.toString()), delta);
+            });
+
+            // DB 반영 후 hash 삭제 전에 중단되었던 batch 는 이미 기록되어 있으므로 다시 반영하지 않음
+            if (!deltas.isEmpty() && !gatheringStore.applyHeartCountDeltas(batchId, deltas)) {
+                log.info("이미 반영된 좋아요 증감량 batch {}를 건너뜁니다.", batchId);
+            }
+            redisTemplate.delete(FLUSHING_KEY);
+
+            // DB 반영과 반영 중 hash 삭제 사이에 적재된 카운터는 증감량이 이중으로 더해졌을 수 있으므로 다시 적재
+            if (!deltas.isEmpty()) redisTemplate.delete(deltas.keySet().stream().map(this::countKey).toList());
+
+            log.info("{}개 모임의 좋아요 수를 반영했습니다.", deltas.size());
+        } catch (RuntimeException e) {
+            log.error("좋아요 수 반영에 실패했습니다. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    private boolean acquireLease() {
+
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, instanceId, Duration.ofMillis(leaseTtlMs));
+        if (Boolean.TRUE.equals(acquired)) return true;
+
+        Long renewed = redisTemplate.execute(RENEW_LEASE_SCRIPT, List.of(LEASE_KEY), instanceId, String.valueOf(leaseTtlMs));
+        return renewed != null && renewed == 1L;
+    }
+
+    private void apply(Long gatheringId, long delta) {
+
+        try {
+            redisTemplate.execute(INCREASE_SCRIPT,
+                    List.of(countKey(gatheringId), DELTA_KEY),
+                    String.valueOf(gatheringId), String.valueOf(delta));
+        } catch (RuntimeException e) {
+            // Redis 장애 시 DB 에 바로 반영
+            log.warn("모임 id {}의 좋아요 수를 Redis 에 반영하지 못했습니다. DB 에 바로 반영합니다.", gatheringId, e);
+            gatheringStore.applyHeartCountDeltas(UUID.randomUUID().toString(), Map.of(gatheringId, delta));
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+
+                task.run();
+            }
+        });
+    }
+
+    private String countKey(Long gatheringId) {
+
+        return COUNT_KEY_PREFIX + gatheringId;
+    }
+
+}
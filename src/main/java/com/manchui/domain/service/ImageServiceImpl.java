@@ -29,9 +29,9 @@ public class ImageServiceImpl {
     private final ImageRepository imageRepository;
     private final S3Uploader s3Uploader;
 
-    // 모임의 Image 등록
+    // 모임의 Image 등록 후 저장된 이미지 경로 반환
     @Transactional
-    public void uploadGatheringImage(MultipartFile multipartFile, Long gatheringId, boolean isDuplicate) {
+    public String uploadGatheringImage(MultipartFile multipartFile, Long gatheringId, boolean isDuplicate) {
 
         if (isDuplicate) {
             Image foundImage = imageRepository.findByGatheringId(gatheringId);
@@ -40,7 +40,7 @@ public class ImageServiceImpl {
             s3Uploader.deleteImage(foundImage.getFakeFileName());
             imageRepository.delete(foundImage);
         }
-        imageRepository.save(toImageEntity(multipartFile, gatheringId));
+        return imageRepository.save(toImageEntity(multipartFile, gatheringId)).getFilePath();
 
     }
 
@@ -142,7 +142,7 @@ public class Oauth2Service {
             if (findUser == null) {
                 // 사용자가 없으면 새로 생성하여 저장
                 User user = new User("kakao" + id, email, nickname, filePath);
-                userRepository.save(user);
+                findUser = userRepository.save(user);
             } else {
                 // 다른 OAuth 제공자로 동일한 이메일을 사용하는 경우 예외 발생
                 if (!findUser.getOauth2Id().equals("kakao" + id)) {
@@ -151,12 +151,11 @@ public class Oauth2Service {
             }
 
             // JWT 토큰 생성
-            String accessToken = jwtUtil.createJwt("access", email, accessTokenExpiration);
-            String refreshToken = jwtUtil.createJwt("refresh", email, refreshTokenExpiration);
+            String accessToken = jwtUtil.createJwt("access", email, findUser.getId(), findUser.getName(), accessTokenExpiration);
+            String refreshToken = jwtUtil.createJwt("refresh", email, findUser.getId(), findUser.getName(), refreshTokenExpiration);
 
             // 토큰 저장
-            redisRefreshTokenService.saveAccessToken(email, accessToken, accessTokenExpiration);
-            redisRefreshTokenService.saveRefreshToken(email, refreshToken, refreshTokenExpiration);
+            redisRefreshTokenService.saveSession(email, accessToken, accessTokenExpiration, refreshToken, refreshTokenExpiration);
 
             // HttpHeaders에 액세스 토큰 설정
             HttpHeaders responseHeaders = new HttpHeaders();
@@ -259,7 +258,7 @@ public class Oauth2Service {
             if (findUser == null) {
                 // 사용자가 없으면 새로 생성하여 저장
                 User user = new User("google" + id, email, name, filePath);
-                userRepository.save(user);
+                findUser = userRepository.save(user);
             } else {
                 if (!findUser.getOauth2Id().equals("google" + id)) {
                     // 다른 OAuth 제공자로 동일한 이메일을 사용하는 경우 예외 발생
@@ -268,12 +267,11 @@ public class Oauth2Service {
             }
 
             // JWT 토큰 생성
-            String accessToken = jwtUtil.createJwt("access", email, accessTokenExpiration);
-            String refreshToken = jwtUtil.createJwt("refresh", email, refreshTokenExpiration);
+            String accessToken = jwtUtil.createJwt("access", email, findUser.getId(), findUser.getName(), accessTokenExpiration);
+            String refreshToken = jwtUtil.createJwt("refresh", email, findUser.getId(), findUser.getName(), refreshTokenExpiration);
 
             // 토큰 저장
-            redisRefreshTokenService.saveAccessToken(email, accessToken, accessTokenExpiration);
-            redisRefreshTokenService.saveRefreshToken(email, refreshToken, refreshTokenExpiration);
+            redisRefreshTokenService.saveSession(email, accessToken, accessTokenExpiration, refreshToken, refreshTokenExpiration);
 
             // HttpHeaders에 액세스 토큰 설정
             HttpHeaders responseHeaders = new HttpHeaders();
@@ -376,7 +374,7 @@ public class Oauth2Service {
             if (findUser == null) {
                 // 사용자가 없으면 새로 생성하여 저장
                 User user = new User("naver" + id, email, nickname, filePath);
-                userRepository.save(user);
+                findUser = userRepository.save(user);
             } else {
                 if (!findUser.getOauth2Id().equals("naver" + id)) {
                     // 다른 OAuth 제공자로 동일한 이메일을 사용하는 경우 예외 발생
@@ -385,12 +383,11 @@ public class Oauth2Service {
             }
 
             // JWT 토큰 생성
-            String accessToken = jwtUtil.createJwt("access", email, accessTokenExpiration);
-            String refreshToken = jwtUtil.createJwt("refresh", email, refreshTokenExpiration);
+            String accessToken = jwtUtil.createJwt("access", email, findUser.getId(), findUser.getName(), accessTokenExpiration);
+            String refreshToken = jwtUtil.createJwt("refresh", email, findUser.getId(), findUser.getName(), refreshTokenExpiration);
 
             // 토큰 저장
-            redisRefreshTokenService.saveAccessToken(email, accessToken, accessTokenExpiration);
-            redisRefreshTokenService.saveRefreshToken(email, refreshToken, refreshTokenExpiration);
+            redisRefreshTokenService.saveSession(email, accessToken, accessTokenExpiration, refreshToken, refreshTokenExpiration);
 
             // HttpHeaders에 액세스 토큰 설정
             HttpHeaders responseHeaders = new HttpHeaders();
@@ -1,49 +1,176 @@
 package com.manchui.domain.service;
 
+import com.manchui.global.jwt.JwtClaims;
+import com.manchui.global.jwt.TokenDigest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
+/**
+ * 사용자 세션(access, refresh 토큰) 저장소
+ * 사용자마다 hash 하나(session:{email})에 토큰 원문 대신 "digest:만료시각(ms)" 값만 저장한다.
+ * 필드별 만료는 값의 만료시각으로 판단하고, 키 TTL 은 두 토큰 중 늦게 만료되는 시각으로 맞춘다.
+ * DENYLIST 모드에서는 access 토큰을 저장하지 않고, 폐기된 토큰만 AccessTokenDenylist 에 기록한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisRefreshTokenService {
 
+    private static final String SESSION_KEY_PREFIX = "session:";
+    private static final String ACCESS_FIELD = "a";
+    private static final String REFRESH_FIELD = "r";
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final AccessTokenNearCache accessTokenNearCache;
+    private final AccessTokenDenylist accessTokenDenylist;
 
-    //Refresh 토큰 저장
-    public void saveRefreshToken(String userEmail, String refreshToken, Long expiredMs) {
-        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-        valueOperations.set(userEmail + "refreshToken", refreshToken, expiredMs, TimeUnit.MILLISECONDS);
+    // access 토큰 검증 방식
+    public enum RevocationMode {
+        // 세션 hash 에 저장된 access 토큰과 비교
+        SESSION,
+        // 서명, 만료만 검증하고 폐기 목록(jti)에 없으면 통과
+        DENYLIST
     }
 
-    //Access 토큰 저장
-    public void saveAccessToken(String userEmail, String accessToken, Long expiredMs) {
-        ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
-        valueOperations.set(userEmail + "accessToken", accessToken, expiredMs, TimeUnit.MILLISECONDS);
+    @Value("${token.revocation.mode}")
+    private RevocationMode revocationMode;
+
+    // access, refresh 저장 및 near cache 무효화 메시지 발행을 한 번의 왕복으로 처리
+    // KEYS: 세션 키 / ARGV: access 값(DENYLIST 모드에서는 빈 값), refresh 값, 키 TTL(ms), 무효화 채널, 이메일
+    private static final RedisScript<Long> SAVE_SESSION_SCRIPT = new DefaultRedisScript<>(
+            "if ARGV[1] == '' then redis.call('hdel', KEYS[1], 'a') else redis.call('hset', KEYS[1], 'a', ARGV[1]) end " +
+            "redis.call('hset', KEYS[1], 'r', ARGV[2]) " +
+            "redis.call('pexpire', KEYS[1], ARGV[3]) " +
+            "redis.call('publish', ARGV[4], ARGV[5]) " +
+            "return 1",
+            Long.class);
+
+    // 요청한 refresh 토큰이 세션의 refresh 토큰과 같고 만료되지 않은 경우에만 두 토큰을 교체 (재발급)
+    // ARGV[6]: 현재 refresh 토큰의 "digest:", ARGV[7]: 현재 시각(ms)
+    private static final RedisScript<Long> ROTATE_SESSION_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('hget', KEYS[1], 'r') " +
+            "if not current or string.sub(current, 1, #ARGV[6]) ~= ARGV[6] " +
+            "or tonumber(string.sub(current, #ARGV[6] + 1)) <= tonumber(ARGV[7]) then return 0 end " +
+            "if ARGV[1] == '' then redis.call('hdel', KEYS[1], 'a') else redis.call('hset', KEYS[1], 'a', ARGV[1]) end " +
+            "redis.call('hset', KEYS[1], 'r', ARGV[2]) " +
+            "redis.call('pexpire', KEYS[1], ARGV[3]) " +
+            "redis.call('publish', ARGV[4], ARGV[5]) " +
+            "return 1",
+            Long.class);
+
+    //로그인 시 access, refresh 토큰 저장
+    public void saveSession(String userEmail, String accessToken, Long accessExpiredMs, String refreshToken, Long refreshExpiredMs) {
+        executeSessionScript(SAVE_SESSION_SCRIPT, userEmail, accessToken, accessExpiredMs, refreshToken, refreshExpiredMs);
+    }
+
+    //재발급 시 현재 refresh 토큰 확인 후 access, refresh 토큰 교체 (refresh 토큰이 일치하지 않으면 false)
+    //DENYLIST 모드에서는 교체된 이전 access 토큰(previousAccess, 없으면 null)을 폐기 목록에 추가
+    public boolean rotateSession(String userEmail, String currentRefreshDigest, JwtClaims previousAccess,
+                                 String accessToken, Long accessExpiredMs, String refreshToken, Long refreshExpiredMs) {
+        boolean rotated = executeSessionScript(ROTATE_SESSION_SCRIPT, userEmail, accessToken, accessExpiredMs, refreshToken, refreshExpiredMs,
+                currentRefreshDigest + ":", String.valueOf(System.currentTimeMillis()));
+
+        if (rotated && revocationMode == RevocationMode.DENYLIST && previousAccess != null && previousAccess.getJti() != null) {
+            accessTokenDenylist.revoke(previousAccess.getJti(), previousAccess.getExpiration().getTime());
+        }
+        return rotated;
+    }
+
+    private boolean executeSessionScript(RedisScript<Long> script, String userEmail,
+                                         String accessToken, Long accessExpiredMs, String refreshToken, Long refreshExpiredMs,
+                                         String... extraArgs) {
+        long now = System.currentTimeMillis();
+
+        Object[] args = new Object[5 + extraArgs.length];
+        args[0] = revocationMode == RevocationMode.DENYLIST ? "" : sessionValue(TokenDigest.of(accessToken), now + accessExpiredMs);
+        args[1] = sessionValue(TokenDigest.of(refreshToken), now + refreshExpiredMs);
+        args[2] = String.valueOf(Math.max(accessExpiredMs, refreshExpiredMs));
+        args[3] = AccessTokenNearCache.INVALIDATION_CHANNEL;
+        args[4] = userEmail;
+        System.arraycopy(extraArgs, 0, args, 5, extraArgs.length);
+
+        Long result = redisTemplate.execute(script, List.of(sessionKey(userEmail)), args);
+
+        accessTokenNearCache.evictLocal(userEmail);
+        return result != null && result == 1L;
     }
 
     //Refresh 토큰 삭제
     public void deleteRefreshToken(String userEmail) {
-        redisTemplate.delete(userEmail + "refreshToken");
+        redisTemplate.opsForHash().delete(sessionKey(userEmail), REFRESH_FIELD);
     }
 
     //Access 토큰 삭제
     public void deleteAccessToken(String userEmail) {
-        redisTemplate.delete(userEmail + "accessToken");
+        redisTemplate.opsForHash().delete(sessionKey(userEmail), ACCESS_FIELD);
+        accessTokenNearCache.invalidate(userEmail);
     }
 
-    //Refresh 토큰 존재 여부 확인
-    public Boolean existsByRefreshToken(String userEmail) {
-        return redisTemplate.hasKey(userEmail + "refreshToken");
+    //Access 토큰 폐기 (로그아웃)
+    public void revokeAccessToken(JwtClaims accessClaims) {
+        if (revocationMode == RevocationMode.DENYLIST && accessClaims.getJti() != null) {
+            accessTokenDenylist.revoke(accessClaims.getJti(), accessClaims.getExpiration().getTime());
+            return;
+        }
+        deleteAccessToken(accessClaims.getUserEmail());
     }
 
-    //Access 토큰 존재 여부 확인
-    public Boolean existsByAccessToken(String userEmail) {
-        return redisTemplate.hasKey(userEmail + "accessToken");
+    //Access 토큰 유효 여부 확인 (jti 가 없는 이전 토큰은 세션 hash 로 확인)
+    public boolean isAccessTokenValid(JwtClaims accessClaims) {
+        if (revocationMode == RevocationMode.DENYLIST && accessClaims.getJti() != null) {
+            return !accessTokenDenylist.isRevoked(accessClaims.getJti());
+        }
+        return existsByAccessToken(accessClaims.getUserEmail(), accessClaims.getTokenDigest());
+    }
+
+    //Refresh 토큰 일치 여부 확인
+    public boolean existsByRefreshToken(String userEmail, String refreshDigest) {
+        String value = (String) redisTemplate.opsForHash().get(sessionKey(userEmail), REFRESH_FIELD);
+        return matches(value, refreshDigest);
+    }
+
+    //Access 토큰 일치 여부 확인 (near cache 에 있으면 Redis 조회 생략)
+    public boolean existsByAccessToken(String userEmail, String accessDigest) {
+        if (matches(accessTokenNearCache.get(userEmail), accessDigest)) {
+            return true;
+        }
+
+        long generation = accessTokenNearCache.generation();
+        String value = (String) redisTemplate.opsForHash().get(sessionKey(userEmail), ACCESS_FIELD);
+        if (!matches(value, accessDigest)) {
+            return false;
+        }
+
+        accessTokenNearCache.put(userEmail, value, generation);
+        return true;
+    }
+
+    private static String sessionKey(String userEmail) {
+        return SESSION_KEY_PREFIX + userEmail;
+    }
+
+    private static String sessionValue(String digest, long expiresAtMs) {
+        return digest + ":" + expiresAtMs;
+    }
+
+    // 저장된 "digest:만료시각" 값이 요청 토큰과 같고 아직 만료되지 않았는지 확인
+    private static boolean matches(String value, String digest) {
+        if (value == null || value.length() <= digest.length() + 1
+                || !value.startsWith(digest) || value.charAt(digest.length()) != ':') {
+            return false;
+        }
+
+        try {
+            return Long.parseLong(value, digest.length() + 1, value.length(), 10) > System.currentTimeMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
     }
 }
@@ -1,10 +1,13 @@
 package com.manchui.domain.service;
 
+import com.manchui.domain.entity.User;
 import com.manchui.global.exception.CustomException;
 import com.manchui.global.exception.ErrorCode;
 import com.manchui.global.jwt.JWTUtil;
+import com.manchui.global.jwt.JwtClaims;
 import com.manchui.global.response.SuccessResponse;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -15,12 +18,15 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class ReissueService {
 
     private final JWTUtil jwtUtil;
     private final RedisRefreshTokenService redisRefreshTokenService;
+    private final UserService userService;
     @Value("${token.access.expiration}")
     private long accessTokenExpiration;
     @Value("${token.refresh.expiration}")
@@ -42,40 +48,61 @@ public class ReissueService {
             throw new CustomException(ErrorCode.MISSING_AUTHORIZATION_REFRESH_TOKEN);
         }
 
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(refresh);
+            claims = jwtUtil.parse(refresh);
         } catch (ExpiredJwtException e) {
 
             throw new CustomException(ErrorCode.MISSING_AUTHORIZATION_REFRESH_TOKEN);
         }
 
-        String category = jwtUtil.getCategory(refresh);
-
-        if (!category.equals("refresh")) {
+        if (!claims.isRefreshToken()) {
 
             throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        String userEmail = jwtUtil.getUsername(refresh);
-        //Redis에 저장된 refresh 토큰 확인
-        if (!redisRefreshTokenService.existsByRefreshToken(userEmail)) {
+        String userEmail = claims.getUserEmail();
+        UUID userId = claims.getUserId();
+        String name = claims.getName();
 
-            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        //사용자 id가 없는 이전 refresh 토큰인 경우에만 사용자 조회
+        if (userId == null) {
+            User user = userService.checkUser(userEmail);
+            userId = user.getId();
+            name = user.getName();
         }
 
-        String newAccess = jwtUtil.createJwt("access", userEmail, accessTokenExpiration);
-        String newRefresh = jwtUtil.createJwt("refresh", userEmail, refreshTokenExpiration);
+        String newAccess = jwtUtil.createJwt("access", userEmail, userId, name, accessTokenExpiration);
+        String newRefresh = jwtUtil.createJwt("refresh", userEmail, userId, name, refreshTokenExpiration);
 
-        redisRefreshTokenService.deleteRefreshToken(userEmail);
-        redisRefreshTokenService.saveAccessToken(userEmail, newAccess, accessTokenExpiration);
-        redisRefreshTokenService.saveRefreshToken(userEmail, newRefresh, refreshTokenExpiration);
+        //Redis에 저장된 refresh 토큰 확인 및 토큰 교체 (한 번의 왕복)
+        if (!redisRefreshTokenService.rotateSession(userEmail, claims.getTokenDigest(), findPreviousAccess(request, userEmail), newAccess, accessTokenExpiration, newRefresh, refreshTokenExpiration)) {
+
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
 
         response.setHeader("Authorization", "Bearer " + newAccess);
-        setResponseCookie(response, "refresh", refresh);
+        setResponseCookie(response, "refresh", newRefresh);
 
         return ResponseEntity.ok().body(SuccessResponse.successWithNoData("refresh 토큰 재발급 성공"));
     }
 
+    // 재발급 요청에 함께 전달된 이전 access 토큰 (만료되었거나 다른 사용자의 토큰이면 폐기할 필요 없음)
+    private JwtClaims findPreviousAccess(HttpServletRequest request, String userEmail) {
+
+        String authorization = request.getHeader("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return null;
+        }
+
+        try {
+            JwtClaims accessClaims = jwtUtil.parse(authorization.substring("Bearer ".length()));
+            return accessClaims.isAccessToken() && userEmail.equals(accessClaims.getUserEmail()) ? accessClaims : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private void setResponseCookie(HttpServletResponse response, String key, String value) {
         ResponseCookie cookie = ResponseCookie.from(key, value)
                 .maxAge(24 * 60 * 60)
@@ -0,0 +1,68 @@
+package com.manchui.domain.service;
+
+import com.manchui.domain.entity.Gathering;
+import com.manchui.domain.entity.Review;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+
+/**
+ * 후기 목록 점수 통계용 집계(review_score_rollup) 관리
+ * 후기 등록/수정/삭제 트랜잭션 안에서 (카테고리, 모임 장소, 후기 작성일, 평점) 행의 후기 개수를 증감하고,
+ * 모임 재생성으로 장소가 바뀌는 경우 등을 맞추기 위해 매일 후기 테이블 기준으로 다시 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewScoreRollupManager {
+
+    private static final String UPSERT_SQL = "INSERT INTO review_score_rollup (category, location, review_date, score, review_count) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE review_count = review_count + VALUES(review_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addReview(Review review) {
+
+        apply(review.getGathering(), review, review.getScore(), 1);
+    }
+
+    public void changeScore(Review review, int oldScore) {
+
+        if (oldScore == review.getScore()) return;
+
+        apply(review.getGathering(), review, oldScore, -1);
+        apply(review.getGathering(), review, review.getScore(), 1);
+    }
+
+    public void removeReview(Review review) {
+
+        apply(review.getGathering(), review, review.getScore(), -1);
+    }
+
+    @Scheduled(cron = "${gathering.rating.rebuild-cron}")
+    @Transactional
+    public void rebuild() {
+
+        jdbcTemplate.update("DELETE FROM review_score_rollup");
+        int insertedRows = jdbcTemplate.update("INSERT INTO review_score_rollup (category, location, review_date, score, review_count) " +
+                "SELECT g.category, g.location, DATE(r.created_at), r.score, COUNT(*) " +
+                "FROM review r JOIN gathering g ON g.gathering_id = r.gathering_id " +
+                "WHERE r.deleted_at IS NULL " +
+                "GROUP BY g.category, g.location, DATE(r.created_at), r.score");
+
+        log.info("후기 점수 통계 집계를 다시 계산했습니다. (집계 행 수: {})", insertedRows);
+    }
+
+    private void apply(Gathering gathering, Review review, int score, int delta) {
+
+        jdbcTemplate.update(UPSERT_SQL,
+                gathering.getCategory(), gathering.getLocation(), Date.valueOf(review.getCreatedAt().toLocalDate()), score, delta);
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.manchui.domain.service;
 
+import com.manchui.domain.dto.CustomUserDetails;
 import com.manchui.domain.dto.review.ReviewCreateRequest;
 import com.manchui.domain.dto.review.ReviewCreateResponse;
+import com.manchui.domain.dto.review.ReviewDetailCursorPagingResponse;
 import com.manchui.domain.dto.review.ReviewDetailPagingResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -9,12 +11,14 @@ import org.springframework.stereotype.Service;
 @Service
 public interface ReviewService {
 
-    ReviewCreateResponse createReview(String email, Long gatheringId, ReviewCreateRequest createResponse);
+    ReviewCreateResponse createReview(CustomUserDetails userDetails, Long gatheringId, ReviewCreateRequest createResponse);
 
-    ReviewCreateResponse updateReview(String email, Long reviewId, ReviewCreateRequest updateRequest);
+    ReviewCreateResponse updateReview(CustomUserDetails userDetails, Long reviewId, ReviewCreateRequest updateRequest);
 
-    void deleteReview(String email, Long reviewId);
+    void deleteReview(CustomUserDetails userDetails, Long reviewId);
 
     ReviewDetailPagingResponse searchReview(Pageable pageable, String query, String location, String startDate, String endDate, String category, String sort, int score);
 
+    ReviewDetailCursorPagingResponse searchReviewByCursor(String cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, int score);
+
 }
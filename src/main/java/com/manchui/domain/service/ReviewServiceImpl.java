@@ -1,5 +1,6 @@
 package com.manchui.domain.service;
 
+import com.manchui.domain.dto.CustomUserDetails;
 import com.manchui.domain.dto.review.*;
 import com.manchui.domain.entity.Attendance;
 import com.manchui.domain.entity.Gathering;
@@ -15,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 
 import static com.manchui.global.exception.ErrorCode.*;
@@ -28,22 +30,25 @@ public class ReviewServiceImpl implements ReviewService {
     private final GatheringReader gatheringReader;
     private final AttendanceRepository attendanceRepository;
     private final ReviewRepository reviewRepository;
+    private final GatheringRatingManager gatheringRatingManager;
+    private final ReviewScoreRollupManager reviewScoreRollupManager;
+    private final UserSummaryCounter userSummaryCounter;
 
     /**
      * 0. 후기 등록
      * 작성자: 오예령
      *
-     * @param email         유저 email
+     * @param userDetails   유저 정보 객체
      * @param gatheringId   모임 id
      * @param createRequest 후기 평점 및 내용
      * @return 생성된 후기 반환
      */
     @Override
     @Transactional
-    public ReviewCreateResponse createReview(String email, Long gatheringId, ReviewCreateRequest createRequest) {
+    public ReviewCreateResponse createReview(CustomUserDetails userDetails, Long gatheringId, ReviewCreateRequest createRequest) {
 
         // 유저 검증
-        User user = userService.checkUser(email);
+        User user = userService.getUserReference(userDetails);
 
         // 마감된 모임이면서 모임 일자가 현재 시점으로부터 지난 모임만 후기 등록이 가능, 후기 유효성 검증 및 마감된 상태 체크
         Gathering gathering = gatheringReader.checkGatheringStatusIsClosed(gatheringId);
@@ -64,7 +69,10 @@ public class ReviewServiceImpl implements ReviewService {
                 .build();
 
         reviewRepository.save(review);
-        log.info("{} 유저가 모임 id {}에 후기를 등록하였습니다.", user.getName(), gatheringId);
+        gatheringRatingManager.addScore(gatheringId, review.getScore());
+        reviewScoreRollupManager.addReview(review);
+        userSummaryCounter.evict(userDetails.getUsername());
+        log.info("{} 유저가 모임 id {}에 후기를 등록하였습니다.", userDetails.getName(), gatheringId);
 
         return review.toResponseDto();
     }
@@ -73,22 +81,25 @@ public class ReviewServiceImpl implements ReviewService {
      * 1. 후기 수정
      * 작성자: 오예령
      *
-     * @param email         유저 email
+     * @param userDetails   유저 정보 객체
      * @param reviewId      후기 id
      * @param updateRequest 후기 평점 및 내용
      * @return 수정된 후기 반환
      */
     @Override
     @Transactional
-    public ReviewCreateResponse updateReview(String email, Long reviewId, ReviewCreateRequest updateRequest) {
+    public ReviewCreateResponse updateReview(CustomUserDetails userDetails, Long reviewId, ReviewCreateRequest updateRequest) {
 
-        Review review = validateUserAndReview(email, reviewId);
+        Review review = validateUserAndReview(userDetails, reviewId);
 
         // 모임 검증 (취소된 모임일 경우 예외 반환)
         Gathering gathering = gatheringReader.checkGatheringStatusIsCanceled(review.getGathering().getId());
 
         // 후기 수정
+        int oldScore = review.getScore();
         review.update(updateRequest, review.getUser(), gathering);
+        gatheringRatingManager.changeScore(gathering.getId(), oldScore, review.getScore());
+        reviewScoreRollupManager.changeScore(review, oldScore);
         log.info("모임 id {}의 후기 id {}이 수정되었습니다.", gathering.getId(), reviewId);
 
         return review.toResponseDto();
@@ -98,20 +109,23 @@ public class ReviewServiceImpl implements ReviewService {
      * 2. 후기 삭제
      * 작성자: 오예령
      *
-     * @param email    유저 email
-     * @param reviewId 후기 id
+     * @param userDetails 유저 정보 객체
+     * @param reviewId    후기 id
      */
     @Override
     @Transactional
-    public void deleteReview(String email, Long reviewId) {
+    public void deleteReview(CustomUserDetails userDetails, Long reviewId) {
 
-        Review review = validateUserAndReview(email, reviewId);
+        Review review = validateUserAndReview(userDetails, reviewId);
 
         // 모임 검증 (취소된 모임일 경우 예외 반환)
         gatheringReader.checkGatheringStatusIsCanceled(review.getGathering().getId());
 
         // 후기 소프트 삭제
         review.softDelete();
+        gatheringRatingManager.removeScore(review.getGathering().getId(), review.getScore());
+        reviewScoreRollupManager.removeReview(review);
+        userSummaryCounter.evict(userDetails.getUsername());
         log.info("모임 id {}의 후기 id {}이 삭제되었습니다.", review.getGathering().getId(), reviewId);
     }
 
@@ -138,10 +152,40 @@ public class ReviewServiceImpl implements ReviewService {
         return new ReviewDetailPagingResponse(reviewDetailInfoList, scoreInfo);
     }
 
-    private Review validateUserAndReview(String email, Long reviewId) {
+    /**
+     * 4. 전체 후기 조회 (커서 기반 페이징)
+     * 작성자: 오예령
+     *
+     * @param cursor    이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size      조회 요청 개수
+     * @param query     검색어
+     * @param location  모임 장소 필터링
+     * @param startDate 시작 날짜
+     * @param endDate   끝 날짜
+     * @param category  카테고리 필터링
+     * @param sort      정렬 기준 (평점 높은 순, 평점 낮은 순)
+     * @param score     평점 필터링 (-1 이면 전체)
+     * @return 후기 리스트와 다음 페이지 커서 반환 (전체 개수와 점수 통계는 첫 페이지에만 포함)
+     */
+    @Override
+    public ReviewDetailCursorPagingResponse searchReviewByCursor(String cursor, int size, String query, String location, String startDate, String endDate, String category, String sort, int score) {
+
+        List<ReviewDetailInfo> reviewList = reviewRepository.getReviewDetailInfoByCursor(cursor, size, query, location, startDate, endDate, category, sort, score);
+
+        if (cursor != null) {
+            return ReviewDetailCursorPagingResponse.of(null, null, reviewList, size, sort);
+        }
+
+        ReviewScoreInfo scoreInfo = reviewRepository.getScoreStatistics(query, location, category, startDate, endDate, score);
+        long reviewCount = reviewRepository.countReviewDetailInfo(query, location, startDate, endDate, category, score);
+
+        return ReviewDetailCursorPagingResponse.of(reviewCount, scoreInfo, reviewList, size, sort);
+    }
+
+    private Review validateUserAndReview(CustomUserDetails userDetails, Long reviewId) {
 
         // 유저 검증
-        User user = userService.checkUser(email);
+        User user = userService.getUserReference(userDetails);
 
         // 후기 검증 (이미 삭제 처리된 후기는 수정/삭제 불가능)
         Review review = reviewRepository.findByIdAndDeletedAtIsNull(reviewId).orElseThrow(
@@ -0,0 +1,208 @@
+package com.manchui.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.manchui.domain.entity.User;
+import com.manchui.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 조회 캐시
+ * 같은 요청 안에서는 요청 속성에 메모이즈하고, 요청 간에는 크기/TTL 이 제한된 로컬 캐시(email, id 키)를 사용한다.
+ * 로컬 캐시에는 영속성 컨텍스트에서 분리(detach)한 객체만 넣으므로, 반환되는 회원은 읽기 전용으로 사용하고 수정할 때는 UserRepository 로 다시 조회해야 한다.
+ * 트랜잭션 안에서는 캐시를 거치지 않고 영속성 컨텍스트의 관리 상태 회원을 반환한다. (분리된 객체의 지연 로딩, 수정 반영 문제 방지)
+ * 무효화 세대(generation)를 두어, 무효화 이전에 시작한 DB 조회 결과가 무효화 이후 다시 캐시되지 않도록 한다.
+ * 회원 정보가 바뀌면 Redis pub/sub 채널로 모든 인스턴스(blue/green)에 무효화를 전파한다.
+ */
+@Slf4j
+@Component
+public class UserCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "user:cache:invalidate";
+
+    private static final String REQUEST_ATTRIBUTE = UserCache.class.getName() + ".users";
+
+    private final UserRepository userRepository;
+
+    private final EntityManager entityManager;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Cache<String, User> usersByEmail;
+
+    private final Cache<UUID, User> usersById;
+
+    // 무효화할 때마다 증가 (조회 시작 시점과 다르면 조회 결과를 캐시하지 않음)
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserCache(UserRepository userRepository,
+                     EntityManager entityManager,
+                     RedisTemplate<String, String> redisTemplate,
+                     @Value("${user.cache.max-size}") long maxSize,
+                     @Value("${user.cache.ttl-seconds}") long ttlSeconds) {
+
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.redisTemplate = redisTemplate;
+        this.usersByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // 존재하지 않는 회원이면 null
+    public User findByEmail(String email) {
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) return userRepository.findByEmail(email);
+
+        Map<Object, User> requestUsers = requestUsers();
+        User user = requestUsers.get(email);
+        if (user != null) return user;
+
+        user = usersByEmail.getIfPresent(email);
+        if (user == null) {
+            long lookupGeneration = generation.get();
+            user = userRepository.findByEmail(email);
+            if (user == null || !put(user, lookupGeneration)) return user;
+        }
+
+        requestUsers.put(email, user);
+        return user;
+    }
+
+    public Optional<User> findById(UUID userId) {
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) return userRepository.findById(userId);
+
+        Map<Object, User> requestUsers = requestUsers();
+        User user = requestUsers.get(userId);
+        if (user != null) return Optional.of(user);
+
+        user = usersById.getIfPresent(userId);
+        if (user == null) {
+            long lookupGeneration = generation.get();
+            Optional<User> found = userRepository.findById(userId);
+            if (found.isEmpty() || !put(found.get(), lookupGeneration)) return found;
+            user = found.get();
+        }
+
+        requestUsers.put(userId, user);
+        return Optional.of(user);
+    }
+
+    // 회원 정보 수정 시 호출 (현재 요청, 로컬 캐시는 바로 비우고 커밋 이후 다른 인스턴스에 전파)
+    public void invalidate(User user) {
+
+        UUID userId = user.getId();
+        String email = user.getEmail();
+
+        evictLocal(userId, email);
+        afterCommit(() -> {
+            evictLocal(userId, email);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId + " " + email);
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(' ');
+        if (separator < 0) return;
+
+        generation.incrementAndGet();
+        usersById.invalidate(UUID.fromString(body.substring(0, separator)));
+        usersByEmail.invalidate(body.substring(separator + 1));
+    }
+
+    // 영속성 컨텍스트에서 분리한 뒤 캐시 (조회를 시작한 이후 무효화가 있었으면 캐시하지 않고 false)
+    private boolean put(User user, long lookupGeneration) {
+
+        if (generation.get() != lookupGeneration) return false;
+        if (entityManager.contains(user)) entityManager.detach(user);
+
+        usersByEmail.put(user.getEmail(), user);
+        usersById.put(user.getId(), user);
+
+        // 적재하는 사이에 무효화가 들어왔으면 되돌림
+        if (generation.get() != lookupGeneration) {
+            usersByEmail.invalidate(user.getEmail());
+            usersById.invalidate(user.getId());
+            return false;
+        }
+        return true;
+    }
+
+    private void evictLocal(UUID userId, String email) {
+
+        generation.incrementAndGet();
+        usersById.invalidate(userId);
+        usersByEmail.invalidate(email);
+
+        Map<Object, User> requestUsers = requestUsers();
+        requestUsers.remove(userId);
+        requestUsers.remove(email);
+    }
+
+    // 요청 범위 메모이즈 (요청 밖에서 호출되면 매번 새 map 이므로 메모이즈하지 않음)
+    @SuppressWarnings("unchecked")
+    private Map<Object, User> requestUsers() {
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return new HashMap<>();
+
+        Map<Object, User> users = (Map<Object, User>) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (users == null) {
+            users = new HashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, users, RequestAttributes.SCOPE_REQUEST);
+        }
+        return users;
+    }
+
+    private void afterCommit(Runnable task) {
+
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("회원 캐시 무효화 메시지를 발행하지 못했습니다. (TTL 이후 만료)", e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeTask.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+
+                safeTask.run();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.manchui.domain.service;
+
+import com.manchui.domain.dto.CustomUserDetails;
+import com.manchui.domain.repository.HeartRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 좋아요한 모임 id 집합
+ * Redis set(heart:user:{email})에 회원별로 한 번 적재해 두고, 좋아요/좋아요 취소 시 삭제해 다음 조회에서 다시 적재한다.
+ * 삭제할 때마다 회원별 세대(heart:user:gen:{email})를 올리고, DB 조회 전에 읽은 세대가 그대로일 때만 적재하므로
+ * 커밋 이전에 DB 를 조회한 요청이 삭제 이후에 오래된 집합을 다시 적재하지 않는다.
+ * 모임 목록의 isHearted 와 찜한 모임 목록 조회에 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserHeartSet {
+
+    private static final String KEY_PREFIX = "heart:user:";
+
+    private static final String GENERATION_KEY_PREFIX = "heart:user:gen:";
+
+    // 좋아요한 모임이 없는 회원도 적재된 상태로 구분하기 위한 값
+    private static final String SENTINEL = "0";
+
+    // set 이 없고 DB 조회 전에 읽은 세대가 그대로일 때만 적재하고 만료 시간까지 함께 설정
+    // KEYS: set, 세대 / ARGV: 세대, TTL(초), 모임 id...
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+                    "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+                    "redis.call('sadd', KEYS[1], unpack(ARGV, 3)) " +
+                    "redis.call('expire', KEYS[1], ARGV[2]) " +
+                    "return 1",
+            Long.class);
+
+    // set 삭제와 세대 증가를 함께 수행 (세대는 set 보다 오래 유지)
+    // KEYS: (set, 세대) 반복 / ARGV: 세대 TTL(초)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+                    "redis.call('del', KEYS[i]) " +
+                    "redis.call('incr', KEYS[i + 1]) " +
+                    "redis.call('expire', KEYS[i + 1], ARGV[1]) end " +
+                    "return 1",
+            Long.class);
+
+    private final HeartRepository heartRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${gathering.heart.user-set-ttl-seconds}")
+    private long ttlSeconds;
+
+    // 회원이 좋아요한 모임 id 집합
+    public Set<Long> getHeartedGatheringIds(CustomUserDetails userDetails) {
+
+        String email = userDetails.getUsername();
+        String key = key(email);
+
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(key);
+            if (members != null && !members.isEmpty()) {
+                return members.stream()
+                        .filter(member -> !SENTINEL.equals(member))
+                        .map(Long::valueOf)
+                        .collect(Collectors.toSet());
+            }
+
+            String generation = redisTemplate.opsForValue().get(generationKey(email));
+            Set<Long> gatheringIds = load(userDetails);
+            List<String> args = new ArrayList<>(gatheringIds.size() + 3);
+            args.add(generation == null ? "0" : generation);
+            args.add(String.valueOf(ttlSeconds));
+            args.add(SENTINEL);
+            gatheringIds.forEach(id -> args.add(String.valueOf(id)));
+
+            redisTemplate.execute(LOAD_SCRIPT, List.of(key, generationKey(email)), args.toArray());
+            return gatheringIds;
+        } catch (RuntimeException e) {
+            log.warn("회원 {}의 좋아요 모임 목록을 Redis 에서 조회하지 못했습니다. DB 에서 조회합니다.", email, e);
+            return load(userDetails);
+        }
+    }
+
+    // 좋아요/좋아요 취소 시 삭제 (트랜잭션 커밋 이후 반영, 다음 조회 시 DB 에서 다시 적재)
+    public void evict(String email) {
+
+        evict(List.of(email));
+    }
+
+    // 모임 재생성으로 좋아요가 모두 삭제된 경우 해당 회원들의 집합을 다시 적재하도록 삭제
+    public void evict(Collection<String> emails) {
+
+        if (emails.isEmpty()) return;
+
+        List<String> keys = new ArrayList<>(emails.size() * 2);
+        emails.forEach(email -> {
+            keys.add(key(email));
+            keys.add(generationKey(email));
+        });
+
+        afterCommit(() -> redisTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(ttlSeconds * 2)));
+    }
+
+    // 사용자 id 로 조회 (id 클레임이 없는 이전 토큰이면 email 로 조회)
+    private Set<Long> load(CustomUserDetails userDetails) {
+
+        if (userDetails.getUserId() != null) {
+            return new HashSet<>(heartRepository.findGatheringIdsByUserId(userDetails.getUserId()));
+        }
+        return new HashSet<>(heartRepository.findGatheringIdsByUserEmail(userDetails.getUsername()));
+    }
+
+    private void afterCommit(Runnable task) {
+
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("회원 좋아요 모임 목록을 갱신하지 못했습니다.", e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeTask.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+
+                safeTask.run();
+            }
+        });
+    }
+
+    private String key(String email) {
+
+        return KEY_PREFIX + email;
+    }
+
+    private String generationKey(String email) {
+
+        return GENERATION_KEY_PREFIX + email;
+    }
+
+}
@@ -1,6 +1,8 @@
 package com.manchui.domain.service;
 
+import com.manchui.domain.dto.CursorPagingResponse;
 import com.manchui.domain.dto.CustomUserDetails;
+import com.manchui.domain.dto.KeysetCursor;
 import com.manchui.domain.dto.User.*;
 import com.manchui.domain.entity.*;
 import com.manchui.domain.repository.*;
@@ -15,8 +17,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,13 +31,14 @@ public class UserService {
     private final ImageServiceImpl imageService;
     private final ImageRepository imageRepository;
     private final GatheringRepository gatheringRepository;
-    private final AttendanceRepository attendanceRepository;
     private final ReviewRepository reviewRepository;
+    private final UserSummaryCounter userSummaryCounter;
+    private final UserCache userCache;
 
     // 유저 객체 검증
     public User checkUser(String email) {
 
-        User user = userRepository.findByEmail(email);
+        User user = userCache.findByEmail(email);
 
         if (user == null) {
             throw new CustomException(USER_NOT_FOUND);
@@ -45,9 +46,27 @@ public class UserService {
         return user;
     }
 
+    //인증 유저 엔티티 참조 (토큰에 유저 id가 있으면 조회 없이 프록시 반환, 연관관계 저장/조건에 사용)
+    public User getUserReference(CustomUserDetails userDetails) {
+
+        if (userDetails.getUserId() != null) {
+            return userRepository.getReferenceById(userDetails.getUserId());
+        }
+        return checkUser(userDetails.getUsername());
+    }
+
+    //인증 유저 엔티티 조회 (유저 id가 있으면 PK로 조회)
+    public User findUser(CustomUserDetails userDetails) {
+
+        if (userDetails.getUserId() != null) {
+            return findByUserId(userDetails.getUserId());
+        }
+        return checkUser(userDetails.getUsername());
+    }
+
     //유저 정보 반환
-    public UserInfoResponse getUserInfo(String userEmail) {
-        User user = userRepository.findByEmail(userEmail);
+    public UserInfoResponse getUserInfo(CustomUserDetails userDetails) {
+        User user = findUser(userDetails);
 
         return UserInfoResponse.builder()
                 .id(user.getId())
@@ -60,9 +79,14 @@ public class UserService {
 
     //유저 정보 수정
     @Transactional
-    public UUID editUserInfo(String userEmail, UserEditInfoRequest userEditInfoRequest) {
+    public UUID editUserInfo(CustomUserDetails userDetails, UserEditInfoRequest userEditInfoRequest) {
+
+        //수정할 엔티티는 캐시가 아닌 영속성 컨텍스트에서 조회
+        User user = userDetails.getUserId() != null
+                ? userRepository.findById(userDetails.getUserId()).orElseThrow(() -> new CustomException(USER_NOT_FOUND))
+                : checkManagedUser(userDetails.getUsername());
+        userCache.invalidate(user);
 
-        User user = userRepository.findByEmail(userEmail);
         MultipartFile image = userEditInfoRequest.getImage();
         String name = userEditInfoRequest.getName();
         Long imageId = imageService.uploadUserProfileImage(image);
@@ -77,12 +101,22 @@ public class UserService {
     //유저 조회
     public User findByUserId(UUID userId) {
 
-        return userRepository.findById(userId).orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        return userCache.findById(userId).orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+    }
+
+    private User checkManagedUser(String email) {
+
+        User user = userRepository.findByEmail(email);
+
+        if (user == null) {
+            throw new CustomException(USER_NOT_FOUND);
+        }
+        return user;
     }
 
     //유저 이름 중복 확인
-    public void checkName(String name, String userEmail) {
-        if (userRepository.findByEmail(userEmail).getName().equals(name)) {
+    public void checkName(String name, CustomUserDetails userDetails) {
+        if (findUser(userDetails).getName().equals(name)) {
             return;
         }
         if (userRepository.existsByName(name)) {
@@ -90,25 +124,21 @@ public class UserService {
         }
     }
 
-    //내가 작성한 모임 목록 조회
-    public UserWrittenGatheringsResponse getWrittenGatheringList(String userEmail, Pageable pageable) {
+    //마이페이지 요약 (작성한 모임, 참여한 모임, 후기 작성 가능한 모임, 작성한 후기 개수)
+    public UserSummaryResponse getUserSummary(CustomUserDetails userDetails) {
 
-        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber() - 1, pageable.getPageSize(), pageable.getSort());
+        return userSummaryCounter.getSummary(userDetails);
+    }
 
-        User user = userRepository.findByEmail(userEmail);
+    //내가 작성한 모임 목록 조회
+    public UserWrittenGatheringsResponse getWrittenGatheringList(CustomUserDetails userDetails, Pageable pageable) {
 
-        Page<Gathering> gatheringList = gatheringRepository.findByUserEquals(user, pageRequest);
+        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber() - 1, pageable.getPageSize(), pageable.getSort());
 
-        //DTO에 맞게 변환
-        Page<GatheringInfo> writtenGatheringList = gatheringList.map(m -> {
-            String imagePath = imageRepository.findByGatheringId(m.getId()).getFilePath();
-            int participantUsers = attendanceRepository.countByGatheringAndDeletedAtIsNull(m);
+        User user = getUserReference(userDetails);
 
-            return new GatheringInfo(m.getId(), m.getGroupName(), m.getCategory(), m.getLocation(),
-                    imagePath, m.getGatheringDate(), m.getDueDate(),
-                    m.getMaxUsers(), participantUsers, m.isOpened(), m.isCanceled(), m.isClosed(), m.getCreatedAt(),
-                    m.getUpdatedAt(), m.getDeletedAt());
-        });
+        //이미지 경로, 참여 인원을 포함한 DTO 페이징 조회
+        Page<GatheringInfo> writtenGatheringList = gatheringRepository.getWrittenGatherings(user, pageRequest);
 
         return new UserWrittenGatheringsResponse(
                 writtenGatheringList.getNumberOfElements(), writtenGatheringList,
@@ -117,121 +147,79 @@ public class UserService {
     }
 
     //사용자가 참여한 모임 목록 조회
-    public UserParticipatedGatheringResponse getParticipatedGatheringList(String userEmail, Pageable pageable) {
+    public UserParticipatedGatheringResponse getParticipatedGatheringList(CustomUserDetails userDetails, Pageable pageable) {
 
         PageRequest pageRequest = PageRequest.of(pageable.getPageNumber() - 1, pageable.getPageSize(), pageable.getSort());
 
-        User user = userRepository.findByEmail(userEmail);
-
-        //유저 모임 참여 엔티티 조회
-        List<Attendance> userAttendance = attendanceRepository.findByUserAndDeletedAtIsNull(user);
-        //참여한 모임 ID 목록
-        List<Long> gatheringIdList = new ArrayList<>();
-
-        for (Attendance attendance : userAttendance) {
-            //모임 취소 X, 사용자가 모임 생성자인 경우
-            if (!attendance.getGathering().isCanceled() && !attendance.getUser().equals(attendance.getGathering().getUser())) {
-                gatheringIdList.add(attendance.getGathering().getId());
-            }
-        }
-
-        //참여한 모임 페이징 조회
-        Page<Gathering> gatheringList = gatheringRepository.findByIdIn(gatheringIdList, pageRequest);
-
-        //GatheringInfo DTO로 변환
-        Page<GatheringInfo> participatedGatheringList = gatheringList.map(m -> {
+        User user = getUserReference(userDetails);
 
-            String filePath = imageRepository.findByGatheringId(m.getId()).getFilePath();
-            int participantUsers = attendanceRepository.countByGatheringAndDeletedAtIsNull(m);
+        //모임 취소 X, 사용자가 모임 생성자가 아닌 참여 모임 DTO 페이징 조회
+        Page<GatheringInfo> participatedGatheringList = gatheringRepository.getParticipatedGatherings(user, pageRequest);
 
-
-            return new GatheringInfo(m.getId(), m.getGroupName(), m.getCategory(), m.getLocation()
-                    , filePath, m.getGatheringDate(), m.getDeletedAt(), m.getMaxUsers(), participantUsers
-                    , m.isOpened(), m.isCanceled(), m.isClosed(), m.getCreatedAt(), m.getUpdatedAt(), m.getDeletedAt());
-        });
-
-        return new UserParticipatedGatheringResponse(gatheringList.getNumberOfElements(), participatedGatheringList
+        return new UserParticipatedGatheringResponse(participatedGatheringList.getNumberOfElements(), participatedGatheringList
                 , participatedGatheringList.getSize(), participatedGatheringList.getNumber() + 1, participatedGatheringList.getTotalPages());
     }
 
     //내가 작성한 목록 조회
-    public UserWrittenReviewsResponse getWrittenReviews(String userEmail, Pageable pageable) {
+    public UserWrittenReviewsResponse getWrittenReviews(CustomUserDetails userDetails, Pageable pageable) {
 
         PageRequest pageRequest = PageRequest.of(pageable.getPageNumber() - 1, pageable.getPageSize(), pageable.getSort());
 
-        User user = userRepository.findByEmail(userEmail);
-        //리뷰 페이징 조회
-        Page<Review> reviews = reviewRepository.findByUser(user, pageRequest);
-        //사용자가 작성한 리뷰정보 DTO로 매핑
-        Page<WrittenReviewInfo> writtenReviewInfos = reviews.map(m -> {
-
-            String filePath = imageRepository.findByGatheringId(m.getGathering().getId()).getFilePath();
+        User user = getUserReference(userDetails);
+        //사용자가 작성한 리뷰정보 DTO 페이징 조회
+        Page<WrittenReviewInfo> writtenReviewInfos = reviewRepository.getWrittenReviews(user, pageRequest);
 
-            return new WrittenReviewInfo(m.getGathering().getId(), m.getScore(),
-                    m.getGathering().getGroupName(), m.getGathering().getCategory(),
-                    m.getGathering().getLocation(), m.getComment(),filePath, m.getGathering().getGatheringDate(), m.getCreatedAt(), m.getUpdatedAt());
-        });
         //응답 데이터 반환
         return new UserWrittenReviewsResponse(writtenReviewInfos.getNumberOfElements(), writtenReviewInfos,
                 writtenReviewInfos.getSize(), writtenReviewInfos.getNumber() + 1, writtenReviewInfos.getTotalPages());
     }
 
     //리뷰 작성 가능한 모임 목록 조회
-    public UserReviewableGatheringsResponse getReviewableGatherings(String userEmail, Pageable pageable) {
+    public UserReviewableGatheringsResponse getReviewableGatherings(CustomUserDetails userDetails, Pageable pageable) {
 
         PageRequest pageRequest = PageRequest.of(pageable.getPageNumber() - 1, pageable.getPageSize(), pageable.getSort());
 
-        User user = userRepository.findByEmail(userEmail);
-        //참가 취소하지 않은 Attendance 조회
-        List<Attendance> attendances = attendanceRepository.findByUserAndDeletedAtIsNull(user);
+        User user = getUserReference(userDetails);
 
-        //참가한 모임 Id 리스트
-        List<Long> attendedGatheringIds = new ArrayList<>();
+        //참여한 모임 중 취소 X, 삭제 X, 모임 날짜가 지났고 리뷰를 작성하지 않은 모임 DTO 페이징 조회
+        Page<ReviewableGatheringInfo> map = gatheringRepository.getReviewableGatherings(user, pageRequest);
 
-        for (Attendance attendance : attendances) {
-            //모임 취소 X, 삭제 X, 모임의 모임 날짜를 지난 경우
-            if (!attendance.getGathering().isCanceled() && attendance.getGathering().getDeletedAt() == null
-                    && attendance.getGathering().getGatheringDate().isBefore(LocalDateTime.now())) {
-                attendedGatheringIds.add(attendance.getGathering().getId());
-            }
-        }
+        return new UserReviewableGatheringsResponse(map.getNumberOfElements(), map, map.getSize(), map.getNumber() + 1, map.getTotalPages());
+    }
 
-        //삭제하지 않은 리뷰 리스트
-        List<Review> reviews = reviewRepository.findByUserAndDeletedAtIsNull(user);
-
-        //리뷰 작성한 모임 id 리스트
-        List<Long> reviewedGatheringIds = new ArrayList<>();
-        for (Review review : reviews) {
-            //작성한 리뷰의 모임이 취소 X, 삭제 X, 모임의 모임 날짜를 지난 경우
-            if (!review.getGathering().isCanceled() && review.getGathering().getDeletedAt() == null
-                    && review.getGathering().getGatheringDate().isBefore(LocalDateTime.now()) ) {
-                reviewedGatheringIds.add(review.getGathering().getId());
-            }
-        }
+    //내가 작성한 모임 목록 조회 (커서 기반 페이징)
+    public CursorPagingResponse getWrittenGatheringListByCursor(CustomUserDetails userDetails, String cursor, int size) {
 
-        //리뷰 작성 가능한 모임Id 리스트
-        List<Long> reviewableGatheringIds = new ArrayList<>();
+        User user = getUserReference(userDetails);
+        List<GatheringInfo> gatheringList = gatheringRepository.getWrittenGatheringsByCursor(user, cursor, size);
 
-        for (Long attendedGatheringId : attendedGatheringIds) {
-            //참여한 모임에서 리뷰 작성하지 않은 모임인 경우
-            if (!reviewedGatheringIds.contains(attendedGatheringId)) {
-                reviewableGatheringIds.add(attendedGatheringId);
-            }
-        }
-        //리뷰 작성한 모임 페이징 조회
-        Page<Gathering> reviewableGatheringInfos = gatheringRepository.findByIdIn(reviewableGatheringIds, pageRequest);
+        return CursorPagingResponse.of(gatheringList, size, g -> KeysetCursor.of(g.getCreatedAt(), g.getGatheringId()));
+    }
 
-        //ReviewableGatheringInfo DTO에 맞게 변환
-        Page<ReviewableGatheringInfo> map = reviewableGatheringInfos.map(m -> {
+    //사용자가 참여한 모임 목록 조회 (커서 기반 페이징)
+    public CursorPagingResponse getParticipatedGatheringListByCursor(CustomUserDetails userDetails, String cursor, int size) {
 
-            String filePath = imageRepository.findByGatheringId(m.getId()).getFilePath();
-            int participantUsers = attendanceRepository.countByGatheringAndDeletedAtIsNull(m);
+        User user = getUserReference(userDetails);
+        List<GatheringInfo> gatheringList = gatheringRepository.getParticipatedGatheringsByCursor(user, cursor, size);
 
-            return new ReviewableGatheringInfo(m.getId(), m.getGroupName(), m.getCategory(),
-                    m.getLocation(), filePath, m.getGatheringDate(), m.getMaxUsers(),
-                    participantUsers, m.getCreatedAt(), m.getUpdatedAt());
-        });
+        return CursorPagingResponse.of(gatheringList, size, g -> KeysetCursor.of(g.getCreatedAt(), g.getGatheringId()));
+    }
 
-        return new UserReviewableGatheringsResponse(map.getNumberOfElements(), map, map.getSize(), map.getNumber() + 1, map.getTotalPages());
+    //내가 작성한 리뷰 목록 조회 (커서 기반 페이징)
+    public CursorPagingResponse getWrittenReviewsByCursor(CustomUserDetails userDetails, String cursor, int size) {
+
+        User user = getUserReference(userDetails);
+        List<WrittenReviewInfo> reviewList = reviewRepository.getWrittenReviewsByCursor(user, cursor, size);
+
+        return CursorPagingResponse.of(reviewList, size, r -> KeysetCursor.of(r.getCreatedAt(), r.getReviewId()));
+    }
+
+    //리뷰 작성 가능한 모임 목록 조회 (커서 기반 페이징)
+    public CursorPagingResponse getReviewableGatheringsByCursor(CustomUserDetails userDetails, String cursor, int size) {
+
+        User user = getUserReference(userDetails);
+        List<ReviewableGatheringInfo> gatheringList = gatheringRepository.getReviewableGatheringsByCursor(user, cursor, size);
+
+        return CursorPagingResponse.of(gatheringList, size, g -> KeysetCursor.of(g.getCreatedAt(), g.getGatheringId()));
     }
 }
\ No newline at end of file
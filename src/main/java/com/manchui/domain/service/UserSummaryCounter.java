@@ -0,0 +1,190 @@
+package com.manchui.domain.service;
+
+import com.manchui.domain.dto.CustomUserDetails;
+import com.manchui.domain.dto.User.UserSummaryResponse;
+import com.manchui.domain.entity.User;
+import com.manchui.domain.repository.GatheringRepository;
+import com.manchui.domain.repository.ReviewRepository;
+import com.manchui.domain.repository.UserRepository;
+import com.manchui.global.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.manchui.global.exception.ErrorCode.USER_NOT_FOUND;
+
+/**
+ * 마이페이지 요약 카운터 (작성한 모임, 참여한 모임, 후기 작성 가능한 모임, 작성한 후기 개수)
+ * Redis hash(user:summary:{email})에 회원별로 한 번 적재해 두고, 모임/참여/후기 변경 시 삭제해 다음 조회에서 다시 적재한다.
+ * 삭제할 때마다 회원별 세대(user:summary:gen:{email})를 올리고, DB 집계 전에 읽은 세대가 그대로일 때만 적재한다.
+ * 후기 작성 가능 여부는 모임 날짜가 지나면서 바뀌므로 TTL 이 지나면 DB 에서 다시 적재한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSummaryCounter {
+
+    private static final String KEY_PREFIX = "user:summary:";
+
+    private static final String GENERATION_KEY_PREFIX = "user:summary:gen:";
+
+    private static final String WRITTEN_GATHERING = "writtenGathering";
+    private static final String PARTICIPATED_GATHERING = "participatedGathering";
+    private static final String REVIEWABLE_GATHERING = "reviewableGathering";
+    private static final String WRITTEN_REVIEW = "writtenReview";
+
+    // DB 집계 전에 읽은 세대가 그대로일 때만 요약 적재와 만료 시간 설정을 한 번에 수행
+    // KEYS: hash, 세대 / ARGV: 세대, TTL(ms), 필드, 값 반복
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+                    "redis.call('hset', KEYS[1], unpack(ARGV, 3)) " +
+                    "return redis.call('pexpire', KEYS[1], ARGV[2])",
+            Long.class);
+
+    // hash 삭제와 세대 증가를 함께 수행 (세대는 hash 보다 오래 유지)
+    // KEYS: (hash, 세대) 반복 / ARGV: 세대 TTL(초)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+                    "redis.call('del', KEYS[i]) " +
+                    "redis.call('incr', KEYS[i + 1]) " +
+                    "redis.call('expire', KEYS[i + 1], ARGV[1]) end " +
+                    "return 1",
+            Long.class);
+
+    private final UserCache userCache;
+
+    private final UserRepository userRepository;
+
+    private final GatheringRepository gatheringRepository;
+
+    private final ReviewRepository reviewRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${user.summary.ttl-seconds}")
+    private long ttlSeconds;
+
+    public UserSummaryResponse getSummary(CustomUserDetails userDetails) {
+
+        String email = userDetails.getUsername();
+        String key = key(email);
+
+        Map<Object, Object> fields;
+        String generation;
+        try {
+            fields = redisTemplate.opsForHash().entries(key);
+            generation = redisTemplate.opsForValue().get(generationKey(email));
+        } catch (RuntimeException e) {
+            log.warn("회원 {}의 마이페이지 요약을 Redis 에서 조회하지 못했습니다. DB 에서 조회합니다.", email, e);
+            return load(userDetails);
+        }
+
+        if (fields.size() == 4) {
+            return new UserSummaryResponse(
+                    Long.parseLong(fields.get(WRITTEN_GATHERING).toString()),
+                    Long.parseLong(fields.get(PARTICIPATED_GATHERING).toString()),
+                    Long.parseLong(fields.get(REVIEWABLE_GATHERING).toString()),
+                    Long.parseLong(fields.get(WRITTEN_REVIEW).toString()));
+        }
+
+        UserSummaryResponse summary = load(userDetails);
+        try {
+            redisTemplate.execute(SAVE_SCRIPT, List.of(key, generationKey(email)),
+                    generation == null ? "0" : generation,
+                    String.valueOf(Duration.ofSeconds(ttlSeconds).toMillis()),
+                    WRITTEN_GATHERING, String.valueOf(summary.getWrittenGatheringCount()),
+                    PARTICIPATED_GATHERING, String.valueOf(summary.getParticipatedGatheringCount()),
+                    REVIEWABLE_GATHERING, String.valueOf(summary.getReviewableGatheringCount()),
+                    WRITTEN_REVIEW, String.valueOf(summary.getWrittenReviewCount()));
+        } catch (RuntimeException e) {
+            log.warn("회원 {}의 마이페이지 요약을 Redis 에 적재하지 못했습니다.", email, e);
+        }
+
+        return summary;
+    }
+
+    // 모임 생성, 참여, 참여 취소, 후기 작성/삭제 시 해당 회원의 요약을 다시 적재하도록 삭제 (트랜잭션 커밋 이후 반영)
+    public void evict(String email) {
+
+        evict(List.of(email));
+    }
+
+    // 모임 취소, 재생성으로 참여 내역이 한꺼번에 바뀐 경우 해당 회원들의 요약을 다시 적재하도록 삭제
+    public void evict(Collection<String> emails) {
+
+        if (emails.isEmpty()) return;
+
+        List<String> keys = new ArrayList<>(emails.size() * 2);
+        emails.forEach(email -> {
+            keys.add(key(email));
+            keys.add(generationKey(email));
+        });
+
+        afterCommit(() -> redisTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(ttlSeconds * 2)));
+    }
+
+    // 사용자 id 로 만든 참조로 집계 (id 클레임이 없는 이전 토큰이면 email 로 조회)
+    private UserSummaryResponse load(CustomUserDetails userDetails) {
+
+        User user;
+        if (userDetails.getUserId() != null) {
+            user = userRepository.getReferenceById(userDetails.getUserId());
+        } else {
+            user = userCache.findByEmail(userDetails.getUsername());
+            if (user == null) throw new CustomException(USER_NOT_FOUND);
+        }
+
+        return new UserSummaryResponse(
+                gatheringRepository.countByUser(user),
+                gatheringRepository.countParticipatedGatherings(user),
+                gatheringRepository.countReviewableGatherings(user),
+                reviewRepository.countByUserAndDeletedAtIsNull(user));
+    }
+
+    private void afterCommit(Runnable task) {
+
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("회원 마이페이지 요약을 갱신하지 못했습니다.", e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeTask.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+
+                safeTask.run();
+            }
+        });
+    }
+
+    private String key(String email) {
+
+        return KEY_PREFIX + email;
+    }
+
+    private String generationKey(String email) {
+
+        return GENERATION_KEY_PREFIX + email;
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.manchui.global.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+// MySQL FULLTEXT 검색 함수 등록 (META-INF/services 로 Hibernate 에 등록됨)
+public class MySqlFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        functionContributions.getFunctionRegistry()
+                .registerPattern("match_against", "match(?1) against(?2 in boolean mode)", doubleType);
+        functionContributions.getFunctionRegistry()
+                .registerPattern("match_against2", "match(?1, ?2) against(?3 in boolean mode)", doubleType);
+    }
+}
@@ -1,11 +1,18 @@
 package com.manchui.global.config;
 
+import com.manchui.domain.service.AccessTokenDenylist;
+import com.manchui.domain.service.AccessTokenNearCache;
+import com.manchui.domain.service.GatheringCountCache;
+import com.manchui.domain.service.GuestGatheringListCache;
+import com.manchui.domain.service.UserCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -28,6 +35,26 @@ public class RedisConfig {
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new StringRedisSerializer());
         return template;
     }
+
+    // 인스턴스 간 로컬 캐시 무효화 메시지 수신
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       AccessTokenNearCache accessTokenNearCache,
+                                                                       AccessTokenDenylist accessTokenDenylist,
+                                                                       UserCache userCache,
+                                                                       GatheringCountCache gatheringCountCache,
+                                                                       GuestGatheringListCache guestGatheringListCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(accessTokenNearCache, new ChannelTopic(AccessTokenNearCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(accessTokenDenylist, new ChannelTopic(AccessTokenDenylist.REVOCATION_CHANNEL));
+        container.addMessageListener(userCache, new ChannelTopic(UserCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(gatheringCountCache, new ChannelTopic(GatheringCountCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(guestGatheringListCache, new ChannelTopic(GuestGatheringListCache.INVALIDATION_CHANNEL));
+        return container;
+    }
 }
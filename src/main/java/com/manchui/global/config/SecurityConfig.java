@@ -5,6 +5,8 @@ import com.manchui.global.jwt.CustomLogoutFilter;
 import com.manchui.global.jwt.JWTFilter;
 import com.manchui.global.jwt.JWTUtil;
 import com.manchui.global.jwt.LoginFilter;
+import com.manchui.global.jwt.RouteClassifier;
+import com.manchui.global.response.ErrorResponseWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +37,7 @@ public class SecurityConfig {
     private final JWTUtil jwtUtil;
     private final Validator validator;
     private final RedisRefreshTokenService redisRefreshTokenService;
+    private final ErrorResponseWriter errorResponseWriter;
     @Value("${token.access.expiration}")
     private Long accessTokenExpiration;
 
@@ -53,6 +56,13 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    // JWT 필터 라우트 테이블 (시작 시 한 번만 구성)
+    @Bean
+    public RouteClassifier routeClassifier() {
+
+        return RouteClassifier.create();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
@@ -89,44 +99,25 @@ public class SecurityConfig {
 
         //경로별 인가 작업
         http
-                .authorizeHttpRequests((auth) -> auth
-                        .requestMatchers(
-                                "/api/auths/signup",
-                                "/api/auths/signin",
-                                "/api/auths/check-name",
-                                "/api/auths/check-email",
-                                "/api/auths/reissue",
-                                "/login",
-
-                                // swagger 관련 API 문서 경로
-                                "/swagger-ui/**",
-                                "/swagger-ui.html",
-                                "/v3/api-docs/**",
-
-                                // 비회원 조회 경로
-                                "/api/gatherings/public/**",
-                                "/api/reviews",
-
-                                // OAuth2 로그인 관련
-                                "/login/oauth2/callback/kakao",
-                                "/login/oauth2/callback/google",
-                                "/login/oauth2/callback/naver"
-                                ).permitAll()
-                        .anyRequest().authenticated()
-                );
+                .authorizeHttpRequests((auth) -> {
+                    // 인증 없이 허용하는 경로는 JWTFilter 의 라우트 테이블과 같은 목록 사용
+                    RouteClassifier.UNAUTHENTICATED_ROUTES.forEach(route ->
+                            auth.requestMatchers(route.method(), route.pattern()).permitAll());
+                    auth.anyRequest().authenticated();
+                });
         //로그인 필터 적용
         http
                 .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, validator
-                        , redisRefreshTokenService, accessTokenExpiration, refreshTokenExpiration), UsernamePasswordAuthenticationFilter.class);
+                        , redisRefreshTokenService, errorResponseWriter, accessTokenExpiration, refreshTokenExpiration), UsernamePasswordAuthenticationFilter.class);
 
         //JWT필터 적용
         http
-                .addFilterAfter(new JWTFilter(jwtUtil, redisRefreshTokenService), LoginFilter.class);
+                .addFilterAfter(new JWTFilter(jwtUtil, redisRefreshTokenService, routeClassifier(), errorResponseWriter), LoginFilter.class);
 
 
         //커스텀 로그아웃 필터 적용
         http
-                .addFilterBefore(new CustomLogoutFilter(jwtUtil, redisRefreshTokenService), LogoutFilter.class);
+                .addFilterBefore(new CustomLogoutFilter(jwtUtil, redisRefreshTokenService, errorResponseWriter), LogoutFilter.class);
 
         //세션 설정
         http
@@ -52,6 +52,7 @@ public enum ErrorCode {
     UNAUTHORIZED_GATHERING_CANCEL(HttpStatus.BAD_REQUEST, "본인이 생성한 모임만 취소 가능합니다."),
     GATHERING_FULL(HttpStatus.BAD_REQUEST, "모집 정원이 다 찬 경우에는 참여할 수 없습니다."),
     MUST_JOIN_IN(HttpStatus.BAD_REQUEST, "모임 주최자는 필수 참석입니다"),
+    ILLEGAL_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
 
     // review
     ILLEGAL_GATHERING_STATUS(HttpStatus.BAD_REQUEST, "현재 마감된 모임이 아닙니다."),
@@ -1,8 +1,9 @@
 package com.manchui.global.exception.handler;
 
 import com.manchui.global.exception.CustomException;
-import com.manchui.global.exception.ErrorCode;
 import com.manchui.global.response.ErrorResponse;
+import com.manchui.global.response.ErrorResponseWriter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,8 +16,11 @@ import java.time.format.DateTimeParseException;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseWriter errorResponseWriter;
+
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     protected ResponseEntity<ErrorResponse> handleHttpRequestMethodNotSupportedException(HttpRequestMethodNotSupportedException ex) {
 
@@ -78,20 +82,12 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(value = {CustomException.class})
-    protected ResponseEntity<ErrorResponse> handleCustomException(CustomException ex) {
+    protected ResponseEntity<byte[]> handleCustomException(CustomException ex) {
 
         log.error("handleCustomException", ex);
 
-        ErrorCode errorCode = ex.getErrorCode();
-        String message = ex.getMessage();
-
-        ErrorResponse response
-                = ErrorResponse
-                .create()
-                .message(message)
-                .httpStatus(errorCode.getHttpStatus());
-
-        return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
+        // 메세지가 ErrorCode 기본 메세지이므로 미리 직렬화된 응답 사용
+        return errorResponseWriter.toResponseEntity(ex.getErrorCode());
     }
 
     @ExceptionHandler(value = {DateTimeParseException.class})
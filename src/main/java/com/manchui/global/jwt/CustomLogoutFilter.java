@@ -1,13 +1,11 @@
 package com.manchui.global.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.manchui.domain.service.RedisRefreshTokenService;
 import com.manchui.global.exception.CustomException;
 import com.manchui.global.exception.ErrorCode;
-import com.manchui.global.response.ErrorResponse;
+import com.manchui.global.response.ErrorResponseWriter;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.security.SignatureException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -29,6 +27,9 @@ public class CustomLogoutFilter extends GenericFilterBean {
 
     private final JWTUtil jwtUtil;
     private final RedisRefreshTokenService redisRefreshTokenService;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    private static final String SIGNOUT_URI = "/api/auths/signout";
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -41,7 +42,7 @@ public class CustomLogoutFilter extends GenericFilterBean {
         String requestMethod = request.getMethod();
 
         // /api/auths/signout에 POST요청이 아닐시 다음 필터로
-        if (!requestUri.matches("^\\/api\\/auths\\/signout$") || !requestMethod.equals("POST")) {
+        if (!SIGNOUT_URI.equals(requestUri) || !"POST".equals(requestMethod)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -106,25 +107,25 @@ public class CustomLogoutFilter extends GenericFilterBean {
         }
 
         //refreshToken이 만료된 경우
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(refresh);
+            claims = jwtUtil.parse(refresh);
         } catch (ExpiredJwtException e) {
             handleException(response, ErrorCode.MISSING_AUTHORIZATION_REFRESH_TOKEN);
             throw new CustomException(ErrorCode.MISSING_AUTHORIZATION_REFRESH_TOKEN);
-        } catch (SignatureException | MalformedJwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             handleException(response, ErrorCode.INVALID_REFRESH_TOKEN);
             throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        String category = jwtUtil.getCategory(refresh);
-        if (!category.equals("refresh")) {
+        if (!claims.isRefreshToken()) {
             handleException(response, ErrorCode.INVALID_REFRESH_TOKEN);
             throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        String userEmail = jwtUtil.getUsername(refresh);
+        String userEmail = claims.getUserEmail();
         //Redis에 저장된 refresh 토큰 확인
-        if (!redisRefreshTokenService.existsByRefreshToken(userEmail)) {
+        if (!redisRefreshTokenService.existsByRefreshToken(userEmail, claims.getTokenDigest())) {
             handleException(response, ErrorCode.INVALID_REFRESH_TOKEN);
             throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
@@ -155,50 +156,35 @@ public class CustomLogoutFilter extends GenericFilterBean {
         }
 
         //accessToken이 만료된 경우
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(accessToken);
+            claims = jwtUtil.parse(accessToken);
         } catch (ExpiredJwtException e) {
             handleException(response, ErrorCode.EXPIRED_JWT);
             throw new CustomException(ErrorCode.EXPIRED_JWT);
-        } catch (SignatureException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             handleException(response, ErrorCode.INVALID_ACCESS_TOKEN);
             throw new CustomException(ErrorCode.INVALID_ACCESS_TOKEN);
         }
 
-        String category = jwtUtil.getCategory(accessToken);
-
-        if (!category.equals("access")) {
+        if (!claims.isAccessToken()) {
             handleException(response, ErrorCode.INVALID_ACCESS_TOKEN);
             throw new CustomException(ErrorCode.INVALID_ACCESS_TOKEN);
         }
 
-        String userEmail = jwtUtil.getUsername(accessToken);
+        String userEmail = claims.getUserEmail();
         //Redis에 저장된 access 토큰 확인
-        if (!redisRefreshTokenService.existsByAccessToken(userEmail)) {
+        if (!redisRefreshTokenService.isAccessTokenValid(claims)) {
             handleException(response, ErrorCode.INVALID_ACCESS_TOKEN);
             throw new CustomException(ErrorCode.INVALID_ACCESS_TOKEN);
         }
 
-        redisRefreshTokenService.deleteAccessToken(userEmail);
+        redisRefreshTokenService.revokeAccessToken(claims);
     }
 
     // 예외 처리 응답을 직접 설정하는 메서드
     private void handleException(HttpServletResponse response, ErrorCode errorCode) {
-        response.setStatus(errorCode.getHttpStatus().value());
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
 
-        ErrorResponse errorResponse = ErrorResponse
-                .create()
-                .message(errorCode.getMessage())
-                .httpStatus(errorCode.getHttpStatus());
-
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonResponse = objectMapper.writeValueAsString(errorResponse);
-            response.getWriter().write(jsonResponse);
-        } catch (IOException e) {
-            log.error("Failed to write error response", e);
-        }
+        errorResponseWriter.write(response, errorCode);
     }
 }
\ No newline at end of file
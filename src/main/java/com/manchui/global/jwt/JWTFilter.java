@@ -1,14 +1,12 @@
 package com.manchui.global.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.manchui.domain.dto.CustomUserDetails;
-import com.manchui.domain.entity.User;
 import com.manchui.domain.service.RedisRefreshTokenService;
 import com.manchui.global.exception.CustomException;
 import com.manchui.global.exception.ErrorCode;
-import com.manchui.global.response.ErrorResponse;
+import com.manchui.global.response.ErrorResponseWriter;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.security.SignatureException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,36 +26,27 @@ public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
     private final RedisRefreshTokenService redisRefreshTokenService;
+    private final RouteClassifier routeClassifier;
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException, CustomException {
 
-        String requestUri = request.getRequestURI();
-        String requestMethod = request.getMethod();
+        RequestRoute route = routeClassifier.classify(request.getMethod(), request.getRequestURI());
 
         // 인증이 필요 없는 요청 처리
-        if ((requestUri.matches("^/api/auths/signup$") && requestMethod.equals("POST")) ||
-                (requestUri.matches("^/api/auths/check-name$") && requestMethod.equals("POST")) ||
-                (requestUri.matches("^/api/auths/signin$") && requestMethod.equals("POST")) ||
-                (requestUri.matches("^/api/reviews$") && requestMethod.equals("GET")) ||
-                (requestUri.matches("^/swagger-ui(/.*)?$")) ||
-                (requestUri.matches("^/swagger-ui.html$")) ||
-                (requestUri.matches("^/v3/api-docs(?:/.*)?$")) ||
-                (requestUri.matches("^\\/login\\/oauth2\\/callback\\/kakao$")) ||
-                (requestUri.matches("^\\/login\\/oauth2\\/callback\\/google$")) ||
-                (requestUri.matches("^\\/login\\/oauth2\\/callback\\/naver$")) ||
-                (requestUri.matches("^/api/auths/reissue$") && requestMethod.equals("POST"))) {
+        if (route == RequestRoute.PUBLIC) {
 
             filterChain.doFilter(request, response);
             return;
         }
 
         // 인증이 필요한 요청 처리
-        String accessToken;
+        JwtClaims claims;
         String authorization = request.getHeader("Authorization");
 
         // /api/gatherings/public/** 요청에 대한 처리
-        if (requestUri.matches("^/api/gatherings/public.*$") && requestMethod.equals("GET")) {
+        if (route == RequestRoute.OPTIONAL_AUTH) {
             // 토큰이 없는 경우 비회원으로 처리
             if (authorization == null || !authorization.startsWith("Bearer ")) {
                 filterChain.doFilter(request, response);
@@ -66,15 +55,13 @@ public class JWTFilter extends OncePerRequestFilter {
         }
 
         try {
-            accessToken = validateAccessToken(request, response, filterChain);
+            claims = validateAccessToken(request, response, filterChain);
         } catch (Exception e) {
             return;
         }
 
-        // 사용자 이메일 추출 및 인증 처리
-        String userEmail = jwtUtil.getUsername(accessToken);
-        User user = new User(userEmail);
-        CustomUserDetails customUserDetails = new CustomUserDetails(user);
+        // 토큰의 사용자 정보로 인증 처리 (DB 조회 없음)
+        CustomUserDetails customUserDetails = new CustomUserDetails(claims.getUserId(), claims.getUserEmail(), claims.getName());
 
         Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -82,7 +69,7 @@ public class JWTFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String validateAccessToken(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+    private JwtClaims validateAccessToken(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
         String authorization = request.getHeader("Authorization");
 
@@ -102,53 +89,36 @@ public class JWTFilter extends OncePerRequestFilter {
             throw new CustomException(ErrorCode.MISSING_AUTHORIZATION_ACCESS_TOKEN);
         }
 
-        //accessToken이 만료된 경우
+        //토큰을 한 번만 파싱/검증 (accessToken이 만료된 경우, 서명이 잘못된 경우 예외)
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(accessToken);
+            claims = jwtUtil.parse(accessToken);
         } catch (ExpiredJwtException e) {
             handleException(response, ErrorCode.EXPIRED_JWT);
             throw new CustomException(ErrorCode.EXPIRED_JWT);
-        } catch (SignatureException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             handleException(response, ErrorCode.INVALID_ACCESS_TOKEN);
             throw new CustomException(ErrorCode.INVALID_ACCESS_TOKEN);
         }
 
-        String category = jwtUtil.getCategory(accessToken);
-
-        if (!category.equals("access")) {
+        if (!claims.isAccessToken()) {
             handleException(response, ErrorCode.INVALID_ACCESS_TOKEN);
             throw new CustomException(ErrorCode.INVALID_ACCESS_TOKEN);
         }
 
-        String userEmail = jwtUtil.getUsername(accessToken);
         //Redis에 저장된 access 토큰 확인
-        if (!redisRefreshTokenService.existsByAccessToken(userEmail)) {
+        if (!redisRefreshTokenService.isAccessTokenValid(claims)) {
             handleException(response, ErrorCode.INVALID_ACCESS_TOKEN);
             throw new CustomException(ErrorCode.INVALID_ACCESS_TOKEN);
         }
 
-        return accessToken;
+        return claims;
     }
 
     // 예외 처리 응답을 직접 설정하는 메서드
     private void handleException(HttpServletResponse response, ErrorCode errorCode) {
 
-        response.setStatus(errorCode.getHttpStatus().value());
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-
-        ErrorResponse errorResponse = ErrorResponse
-                .create()
-                .message(errorCode.getMessage())
-                .httpStatus(errorCode.getHttpStatus());
-
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonResponse = objectMapper.writeValueAsString(errorResponse);
-            response.getWriter().write(jsonResponse);
-        } catch (IOException e) {
-            log.error("Failed to write error response", e);
-        }
+        errorResponseWriter.write(response, errorCode);
     }
 
 }
@@ -1,5 +1,10 @@
 package com.manchui.global.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -8,33 +13,78 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JWTUtil {
 
     private final SecretKey secretKey;
 
-    public JWTUtil(@Value("${JWT_SECRET_KEY}") String secret) {
+    // 파서는 불변이므로 한 번만 생성해 재사용
+    private final JwtParser jwtParser;
+
+    // 최근에 서명 검증을 마친 토큰 (토큰의 SHA-256 digest -> 클레임, 토큰 만료 시각에 제거)
+    private final Cache<String, JwtClaims> verifiedTokens;
+
+    public JWTUtil(@Value("${JWT_SECRET_KEY}") String secret,
+                   @Value("${token.verified-cache.max-size}") long verifiedCacheMaxSize) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
-    }
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, JwtClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(claims.getExpiration().getTime() - System.currentTimeMillis(), 0));
+                    }
 
-    public String getUsername(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("userEmail", String.class);
-    }
+                    @Override
+                    public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
 
-    public String getCategory(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class);
+                    @Override
+                    public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
-    public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+    /**
+     * 토큰을 한 번만 파싱/검증해 클레임 반환
+     * 최근에 검증한 토큰은 서명 검증을 생략하며, 만료되었거나 서명이 잘못된 토큰은 JwtException 을 던진다.
+     */
+    public JwtClaims parse(String token) {
+
+        String digest = TokenDigest.of(token);
+        JwtClaims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.getExpiration().after(new Date())) return cached;
+
+        Claims payload = jwtParser.parseSignedClaims(token).getPayload();
+        String userId = payload.get("userId", String.class);
+        JwtClaims claims = new JwtClaims(
+                payload.get("category", String.class),
+                payload.get("userEmail", String.class),
+                userId != null ? UUID.fromString(userId) : null,
+                payload.get("name", String.class),
+                payload.getExpiration(),
+                digest,
+                payload.getId());
+
+        verifiedTokens.put(digest, claims);
+        return claims;
     }
 
-    public String createJwt(String category, String userEmail, Long expiredMs) {
+    public String createJwt(String category, String userEmail, UUID userId, String name, Long expiredMs) {
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .claim("category", category)
                 .claim("userEmail", userEmail)
+                .claim("userId", userId.toString())
+                .claim("name", name)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiredMs))
                 .signWith(secretKey)
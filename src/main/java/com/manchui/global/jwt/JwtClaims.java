@@ -0,0 +1,41 @@
+package com.manchui.global.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.UUID;
+
+// 서명 검증을 마친 토큰의 클레임
+@Getter
+@AllArgsConstructor
+public class JwtClaims {
+
+    private final String category;
+
+    private final String userEmail;
+
+    // 사용자 id, 이름 (이전에 발급된 토큰은 null)
+    private final UUID userId;
+
+    private final String name;
+
+    private final Date expiration;
+
+    // 토큰 원문의 digest (Redis 세션에 저장된 값과 비교)
+    private final String tokenDigest;
+
+    // 토큰 식별자 (폐기 목록에 사용, 이전에 발급된 토큰은 null)
+    private final String jti;
+
+    public boolean isAccessToken() {
+
+        return "access".equals(category);
+    }
+
+    public boolean isRefreshToken() {
+
+        return "refresh".equals(category);
+    }
+
+}
@@ -1,10 +1,11 @@
 package com.manchui.global.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manchui.domain.dto.CustomUserDetails;
 import com.manchui.domain.dto.LoginDTO;
 import com.manchui.domain.service.RedisRefreshTokenService;
 import com.manchui.global.exception.ErrorCode;
-import com.manchui.global.response.ErrorResponse;
+import com.manchui.global.response.ErrorResponseWriter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.Cookie;
@@ -39,15 +40,18 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     private final JWTUtil jwtUtil;
     private final Validator validator;
     private final RedisRefreshTokenService redisRefreshTokenService;
+    private final ErrorResponseWriter errorResponseWriter;
 
     public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil,
-                       Validator validator, RedisRefreshTokenService redisRefreshTokenService
+                       Validator validator, RedisRefreshTokenService redisRefreshTokenService,
+                       ErrorResponseWriter errorResponseWriter
                         ,Long accessTokenExpiration, Long refreshTokenExpiration) {
         super();
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
         this.validator = validator;
         this.redisRefreshTokenService = redisRefreshTokenService;
+        this.errorResponseWriter = errorResponseWriter;
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
         setFilterProcessesUrl("/api/auths/signin");  // 필터의 URL 매핑 설정
@@ -94,14 +98,14 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authentication) throws IOException {
 
-        String userEmail = authentication.getName();
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        String userEmail = principal.getUsername();
 
-        String access = jwtUtil.createJwt("access", userEmail, accessTokenExpiration);
-        String refresh = jwtUtil.createJwt("refresh", userEmail, refreshTokenExpiration);
+        String access = jwtUtil.createJwt("access", userEmail, principal.getUserId(), principal.getName(), accessTokenExpiration);
+        String refresh = jwtUtil.createJwt("refresh", userEmail, principal.getUserId(), principal.getName(), refreshTokenExpiration);
 
         //Redis에 refresh, access 저장
-        redisRefreshTokenService.saveRefreshToken(userEmail, refresh, refreshTokenExpiration);
-        redisRefreshTokenService.saveAccessToken(userEmail, access, accessTokenExpiration);
+        redisRefreshTokenService.saveSession(userEmail, access, accessTokenExpiration, refresh, refreshTokenExpiration);
 
         response.setHeader("Authorization", "Bearer " + access);
         setResponseCookie(response, "refresh", refresh);
@@ -161,21 +165,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
     // 예외 처리 응답을 직접 설정하는 메서드
     private void handleException(HttpServletResponse response, ErrorCode errorCode) {
-        response.setStatus(errorCode.getHttpStatus().value());
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
 
-        ErrorResponse errorResponse = ErrorResponse
-                .create()
-                .message(errorCode.getMessage())
-                .httpStatus(errorCode.getHttpStatus());
-
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonResponse = objectMapper.writeValueAsString(errorResponse);
-            response.getWriter().write(jsonResponse);
-        } catch (IOException e) {
-            log.error("Failed to write error response", e);
-        }
+        errorResponseWriter.write(response, errorCode);
     }
 }
@@ -0,0 +1,14 @@
+package com.manchui.global.jwt;
+
+// JWT 필터에서의 요청 인증 처리 구분
+public enum RequestRoute {
+
+    // 토큰 검증 없이 통과
+    PUBLIC,
+
+    // 토큰이 없으면 비회원으로 처리, 토큰이 있으면 검증
+    OPTIONAL_AUTH,
+
+    // 토큰 필수
+    AUTHENTICATED
+}
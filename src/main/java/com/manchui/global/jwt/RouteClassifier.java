@@ -0,0 +1,109 @@
+package com.manchui.global.jwt;
+
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 method, path 로 인증 처리 구분(RequestRoute)을 판단하는 라우트 테이블
+ * 애플리케이션 시작 시 한 번만 구성하며, 요청마다 정규식을 컴파일하지 않고 exact match(HashMap) 와 prefix match 로만 판단한다.
+ * 인증 없이 허용하는 경로는 UNAUTHENTICATED_ROUTES 한 곳에만 정의하고, SecurityConfig 의 permitAll 도 같은 목록으로 구성한다.
+ */
+public class RouteClassifier {
+
+    private static final String ANY_METHOD = "*";
+
+    private static final String ANY_SUB_PATH = "/**";
+
+    // 인증 없이 허용하는 경로 (method 가 null 이면 모든 method, "/**" 로 끝나면 하위 경로 전체)
+    public static final List<Route> UNAUTHENTICATED_ROUTES = List.of(
+            new Route(HttpMethod.POST, "/api/auths/signup", RequestRoute.PUBLIC),
+            new Route(HttpMethod.POST, "/api/auths/signin", RequestRoute.PUBLIC),
+            new Route(HttpMethod.POST, "/api/auths/check-name", RequestRoute.PUBLIC),
+            new Route(null, "/api/auths/check-email", RequestRoute.PUBLIC),
+            new Route(HttpMethod.POST, "/api/auths/reissue", RequestRoute.PUBLIC),
+            new Route(null, "/login", RequestRoute.PUBLIC),
+
+            // swagger 관련 API 문서 경로
+            new Route(null, "/swagger-ui/**", RequestRoute.PUBLIC),
+            new Route(null, "/swagger-ui.html", RequestRoute.PUBLIC),
+            new Route(null, "/v3/api-docs/**", RequestRoute.PUBLIC),
+
+            // 비회원 조회 경로 (토큰이 있으면 회원으로 처리)
+            new Route(HttpMethod.GET, "/api/gatherings/public/**", RequestRoute.OPTIONAL_AUTH),
+            new Route(HttpMethod.GET, "/api/reviews", RequestRoute.PUBLIC),
+            new Route(HttpMethod.GET, "/api/reviews/cursor", RequestRoute.PUBLIC),
+
+            // OAuth2 로그인 관련
+            new Route(null, "/login/oauth2/callback/kakao", RequestRoute.PUBLIC),
+            new Route(null, "/login/oauth2/callback/google", RequestRoute.PUBLIC),
+            new Route(null, "/login/oauth2/callback/naver", RequestRoute.PUBLIC)
+    );
+
+    // path -> (method -> route)
+    private final Map<String, Map<String, RequestRoute>> exactRoutes = new HashMap<>();
+
+    // 등록 순서대로 검사
+    private final List<PrefixRoute> prefixRoutes = new ArrayList<>();
+
+    public static RouteClassifier create() {
+
+        RouteClassifier classifier = new RouteClassifier();
+
+        for (Route route : UNAUTHENTICATED_ROUTES) {
+            String method = route.method() == null ? ANY_METHOD : route.method().name();
+            if (route.pattern().endsWith(ANY_SUB_PATH)) {
+                // "/path/**" 는 "/path" 와 "/path/" 로 시작하는 경로
+                String base = route.pattern().substring(0, route.pattern().length() - ANY_SUB_PATH.length());
+                classifier.exact(method, base, route.route());
+                classifier.prefix(method, base + "/", route.route());
+            } else {
+                classifier.exact(method, route.pattern(), route.route());
+            }
+        }
+
+        return classifier;
+    }
+
+    public RequestRoute classify(String method, String path) {
+
+        Map<String, RequestRoute> methods = exactRoutes.get(path);
+        if (methods != null) {
+            RequestRoute route = methods.get(method);
+            if (route == null) route = methods.get(ANY_METHOD);
+            if (route != null) return route;
+        }
+
+        for (PrefixRoute prefixRoute : prefixRoutes) {
+            if (prefixRoute.matches(method, path)) return prefixRoute.route();
+        }
+
+        return RequestRoute.AUTHENTICATED;
+    }
+
+    private void exact(String method, String path, RequestRoute route) {
+
+        exactRoutes.computeIfAbsent(path, p -> new HashMap<>()).put(method, route);
+    }
+
+    private void prefix(String method, String pathPrefix, RequestRoute route) {
+
+        prefixRoutes.add(new PrefixRoute(method, pathPrefix, route));
+    }
+
+    // SecurityConfig 의 requestMatchers(method, pattern) 와 같은 형식
+    public record Route(HttpMethod method, String pattern, RequestRoute route) {
+    }
+
+    private record PrefixRoute(String method, String pathPrefix, RequestRoute route) {
+
+        boolean matches(String requestMethod, String path) {
+
+            return (ANY_METHOD.equals(method) || method.equals(requestMethod)) && path.startsWith(pathPrefix);
+        }
+    }
+
+}
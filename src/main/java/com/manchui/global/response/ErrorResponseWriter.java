@@ -0,0 +1,64 @@
+package com.manchui.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manchui.global.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ErrorCode 별 에러 응답 JSON 을 시작 시 UTF-8 바이트로 미리 만들어 두고 그대로 응답에 쓰는 컴포넌트
+ * 만료 토큰 요청이 몰리는 경우에도 요청마다 ObjectMapper 생성, 직렬화를 하지 않는다.
+ */
+@Slf4j
+@Component
+public class ErrorResponseWriter {
+
+    private final Map<ErrorCode, byte[]> renderedResponses = new EnumMap<>(ErrorCode.class);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) throws JsonProcessingException {
+
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            ErrorResponse errorResponse = ErrorResponse
+                    .create()
+                    .message(errorCode.getMessage())
+                    .httpStatus(errorCode.getHttpStatus());
+
+            renderedResponses.put(errorCode, objectMapper.writeValueAsBytes(errorResponse));
+        }
+    }
+
+    // 필터에서 응답을 직접 작성하는 경우
+    public void write(HttpServletResponse response, ErrorCode errorCode) {
+
+        byte[] body = renderedResponses.get(errorCode);
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(body.length);
+
+        try {
+            response.getOutputStream().write(body);
+        } catch (IOException e) {
+            log.error("Failed to write error response", e);
+        }
+    }
+
+    // 컨트롤러 예외 처리(GlobalExceptionHandler)에서 사용하는 경우
+    public ResponseEntity<byte[]> toResponseEntity(ErrorCode errorCode) {
+
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(renderedResponses.get(errorCode));
+    }
+
+}
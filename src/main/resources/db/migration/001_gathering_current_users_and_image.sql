@@ -0,0 +1,13 @@
+-- gathering.current_users, gathering.gathering_image 컬럼 추가 후 기존 모임 데이터 보정
+-- (컬럼 자체는 ddl-auto 로 생성되므로 배포 직후 1회 실행)
+
+UPDATE gathering g
+SET g.current_users = (SELECT COUNT(*)
+                       FROM attendance a
+                       WHERE a.gathering_id = g.gathering_id
+                         AND a.deleted_at IS NULL),
+    g.gathering_image = (SELECT i.file_path
+                         FROM image i
+                         WHERE i.gathering_id = g.gathering_id
+                         ORDER BY i.image_id DESC
+                         LIMIT 1);
@@ -0,0 +1,25 @@
+-- 중복 좋아요 정리 및 gathering.heart_count 보정 후, (user_id, gathering_id) 유니크 제약이 없으면 추가
+-- (heart_count 컬럼은 ddl-auto 로 생성되므로 배포 직후 1회 실행, 유니크 제약은 ddl-auto 로 이미 생성되었을 수 있음)
+
+DELETE h1
+FROM heart h1
+         JOIN heart h2
+              ON h1.user_id = h2.user_id
+                  AND h1.gathering_id = h2.gathering_id
+                  AND h1.id > h2.id;
+
+UPDATE gathering g
+SET g.heart_count = (SELECT COUNT(*)
+                     FROM heart h
+                     WHERE h.gathering_id = g.gathering_id);
+
+SET @add_unique = (SELECT IF(COUNT(*) = 0,
+                             'ALTER TABLE heart ADD CONSTRAINT uk_heart_user_gathering UNIQUE (user_id, gathering_id)',
+                             'SELECT 1')
+                   FROM information_schema.table_constraints
+                   WHERE table_schema = DATABASE()
+                     AND table_name = 'heart'
+                     AND constraint_name = 'uk_heart_user_gathering');
+PREPARE add_unique FROM @add_unique;
+EXECUTE add_unique;
+DEALLOCATE PREPARE add_unique;
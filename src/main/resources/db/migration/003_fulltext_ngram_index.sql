@@ -0,0 +1,9 @@
+-- 모임 이름/내용, 후기 내용 전문 검색용 ngram FULLTEXT 인덱스
+-- (기본값은 search.fulltext.enabled: false, 이 스크립트 실행 후 인덱스 생성이 끝나면 true 로 변경)
+-- (ngram_token_size 는 search.fulltext.min-query-length 와 같아야 함)
+
+ALTER TABLE gathering
+    ADD FULLTEXT INDEX ft_gathering_name_content (group_name, gathering_content) WITH PARSER ngram;
+
+ALTER TABLE review
+    ADD FULLTEXT INDEX ft_review_comment (comment) WITH PARSER ngram;
@@ -0,0 +1,23 @@
+-- 모임별 후기 평점 집계 초기 적재 (gathering_rating 테이블은 ddl-auto 로 생성되므로 배포 직후 1회 실행)
+-- 삭제되지 않은 후기만 집계, 이후에는 매일 GatheringRatingManager.rebuild 가 같은 방식으로 다시 계산
+
+INSERT INTO gathering_rating
+(gathering_id, review_count, score_sum, five_score_count, four_score_count, three_score_count, two_score_count, one_score_count)
+SELECT g.gathering_id,
+       COUNT(r.id),
+       COALESCE(SUM(r.score), 0),
+       COALESCE(SUM(r.score = 5), 0),
+       COALESCE(SUM(r.score = 4), 0),
+       COALESCE(SUM(r.score = 3), 0),
+       COALESCE(SUM(r.score = 2), 0),
+       COALESCE(SUM(r.score = 1), 0)
+FROM gathering g
+         LEFT JOIN review r ON r.gathering_id = g.gathering_id AND r.deleted_at IS NULL
+GROUP BY g.gathering_id
+ON DUPLICATE KEY UPDATE review_count     = VALUES(review_count),
+                        score_sum        = VALUES(score_sum),
+                        five_score_count = VALUES(five_score_count),
+                        four_score_count = VALUES(four_score_count),
+                        three_score_count = VALUES(three_score_count),
+                        two_score_count  = VALUES(two_score_count),
+                        one_score_count  = VALUES(one_score_count);
@@ -0,0 +1,11 @@
+-- 후기 목록 점수 통계 집계 초기 적재 (review_score_rollup 테이블은 ddl-auto 로 생성되므로 배포 직후 1회 실행)
+-- 삭제되지 않은 후기만 집계, 이후에는 매일 ReviewScoreRollupManager.rebuild 가 같은 방식으로 다시 계산
+
+DELETE FROM review_score_rollup;
+
+INSERT INTO review_score_rollup (category, location, review_date, score, review_count)
+SELECT g.category, g.location, DATE(r.created_at), r.score, COUNT(*)
+FROM review r
+         JOIN gathering g ON g.gathering_id = r.gathering_id
+WHERE r.deleted_at IS NULL
+GROUP BY g.category, g.location, DATE(r.created_at), r.score;
@@ -0,0 +1,70 @@
+package com.manchui.domain.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 실행되는 쿼리가 엔티티에 정의된 인덱스를 사용할 수 있는지 EXPLAIN 으로 확인
+ * 테이블을 읽는 모든 단계가 인덱스를 사용하지 않거나(key = NULL) full scan(type = ALL)으로 실행되면 실패한다.
+ */
+@SpringBootTest
+class HotQueryExplainTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // 모임 목록 (최신순, 마감 임박순)
+            "SELECT gathering_id FROM gathering WHERE is_canceled = false AND is_closed = false AND due_date > NOW() ORDER BY created_at DESC, gathering_id DESC LIMIT 10",
+            "SELECT gathering_id FROM gathering WHERE is_canceled = false AND is_closed = false AND due_date > NOW() ORDER BY due_date, gathering_id LIMIT 10",
+            // 찜한 모임 목록 다음 페이지 (keyset)
+            "SELECT gathering_id FROM gathering WHERE is_canceled = false AND is_closed = false AND due_date > NOW() AND gathering_id IN (1, 2, 3) AND (created_at < NOW() OR (created_at = NOW() AND gathering_id < 100)) ORDER BY created_at DESC, gathering_id DESC LIMIT 10",
+            // 내가 만든 모임 목록 다음 페이지 (keyset)
+            "SELECT gathering_id FROM gathering WHERE user_id = UUID_TO_BIN(UUID()) AND (created_at < NOW() OR (created_at = NOW() AND gathering_id < 100)) ORDER BY created_at DESC, gathering_id DESC LIMIT 10",
+            // 모임 재생성 시 같은 이름의 모임 조회
+            "SELECT gathering_id FROM gathering WHERE user_id = UUID_TO_BIN(UUID()) AND group_name = 'test'",
+            // 모임 참여자 조회, 참여 여부 확인
+            "SELECT id FROM attendance WHERE gathering_id = 1 AND deleted_at IS NULL",
+            "SELECT id FROM attendance WHERE user_id = UUID_TO_BIN(UUID()) AND gathering_id = 1",
+            // 모임 좋아요 조회
+            "SELECT id FROM heart WHERE gathering_id = 1",
+            // 후기 목록 다음 페이지 (keyset, 최신순 / 평점순 / 모임 상세 / 내가 쓴 후기)
+            "SELECT id FROM review WHERE deleted_at IS NULL AND (created_at < NOW() OR (created_at = NOW() AND id < 100)) ORDER BY created_at DESC, id DESC LIMIT 10",
+            "SELECT id FROM review WHERE deleted_at IS NULL AND (score < 5 OR (score = 5 AND id < 100)) ORDER BY score DESC, id DESC LIMIT 10",
+            "SELECT id FROM review WHERE gathering_id = 1 AND deleted_at IS NULL AND (created_at < NOW() OR (created_at = NOW() AND id < 100)) ORDER BY created_at DESC, id DESC LIMIT 10",
+            "SELECT id FROM review WHERE user_id = UUID_TO_BIN(UUID()) AND deleted_at IS NULL ORDER BY created_at DESC LIMIT 10",
+            // 후기 작성 가능한 모임 (참여한 모임 중 후기가 없는 모임)
+            "SELECT g.gathering_id FROM attendance a JOIN gathering g ON g.gathering_id = a.gathering_id WHERE a.user_id = UUID_TO_BIN(UUID()) AND a.deleted_at IS NULL AND NOT EXISTS (SELECT 1 FROM review r WHERE r.user_id = a.user_id AND r.gathering_id = g.gathering_id AND r.deleted_at IS NULL) LIMIT 10",
+            // 모임별 후기 점수 통계
+            "SELECT score, COUNT(*) FROM review WHERE gathering_id = 1 GROUP BY score",
+            // 모임 이미지 조회
+            "SELECT file_path FROM image WHERE gathering_id = 1",
+            // 회원 조회
+            "SELECT id FROM `user` WHERE email = 'test@test.com'",
+            "SELECT id FROM `user` WHERE name = 'test'"
+    })
+    void hotQueryDoesNotFallBackToFullScan(String sql) {
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+
+        // table 이 없는 단계(Impossible WHERE 등)는 테이블을 읽지 않으므로 제외
+        assertThat(plan)
+                .as("EXPLAIN %s", sql)
+                .filteredOn(row -> row.get("table") != null)
+                .isNotEmpty()
+                .allSatisfy(row -> {
+                    assertThat(row.get("type")).as("type: %s", row).isNotEqualTo("ALL");
+                    assertThat(row.get("key")).as("key: %s", row).isNotNull();
+                });
+    }
+
+}
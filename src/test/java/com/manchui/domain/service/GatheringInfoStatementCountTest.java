@@ -0,0 +1,118 @@
+package com.manchui.domain.service;
+
+import com.manchui.domain.entity.Attendance;
+import com.manchui.domain.entity.Gathering;
+import com.manchui.domain.entity.Review;
+import com.manchui.domain.entity.User;
+import com.manchui.domain.repository.AttendanceRepository;
+import com.manchui.domain.repository.GatheringRepository;
+import com.manchui.domain.repository.ReviewRepository;
+import com.manchui.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모임 상세 조회가 참여자 수, 후기 수와 관계없이 정해진 개수의 쿼리로 처리되는지 확인
+ * (모임 + 주최자 1, 참여자 1, 후기 목록 1, 후기 점수 통계 1)
+ * 후기는 한 페이지보다 많이 등록해 후기 작성자/이미지 조회가 후기마다 추가로 실행되지 않는지도 확인한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class GatheringInfoStatementCountTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    // 참여자마다 후기 1개씩 작성하므로 한 페이지보다 많은 후기가 등록됨
+    private static final int PARTICIPANT_COUNT = PAGE_SIZE + 5;
+
+    private static final long MAX_STATEMENT_COUNT = 4;
+
+    @Autowired
+    private GatheringService gatheringService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GatheringRepository gatheringRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private GatheringRatingManager gatheringRatingManager;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void gatheringInfoUsesFixedNumberOfStatements() {
+
+        Long gatheringId = saveGatheringWithParticipants();
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        gatheringService.getGatheringInfo(null, gatheringId, PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENT_COUNT);
+    }
+
+    private Long saveGatheringWithParticipants() {
+
+        User host = userRepository.save(newUser());
+        Gathering gathering = gatheringRepository.save(Gathering.builder()
+                .user(host)
+                .groupName("상세 조회 테스트")
+                .category("테스트")
+                .location("서울")
+                .gatheringContent("상세 조회 쿼리 개수 테스트")
+                .gatheringDate(LocalDateTime.now().plusDays(3))
+                .dueDate(LocalDateTime.now().plusDays(2))
+                .maxUsers(20)
+                .minUsers(2)
+                .build());
+
+        attendanceRepository.save(Attendance.builder().user(host).gathering(gathering).build());
+        for (int i = 0; i < PARTICIPANT_COUNT; i++) {
+            User participant = userRepository.save(newUser());
+            attendanceRepository.save(Attendance.builder().user(participant).gathering(gathering).build());
+            reviewRepository.save(Review.builder()
+                    .user(participant)
+                    .gathering(gathering)
+                    .score(i % 5 + 1)
+                    .comment("후기 " + i)
+                    .build());
+            gatheringRatingManager.addScore(gathering.getId(), i % 5 + 1);
+        }
+
+        return gathering.getId();
+    }
+
+    private User newUser() {
+
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        return new User(name, name + "@test.com", "password");
+    }
+
+}